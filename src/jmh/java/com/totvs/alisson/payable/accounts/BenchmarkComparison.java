@@ -0,0 +1,108 @@
+package com.totvs.alisson.payable.accounts;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JMH JSON result files, usually one kept from an earlier commit and the one just
+ * written, and exits with status 1 when a benchmark got slower by more than the threshold (in
+ * percent) and by more than the two error margins together.
+ *
+ * <p>Usage: {@code BenchmarkComparison <baseline.json> <current.json> [threshold-percent]}
+ */
+public final class BenchmarkComparison {
+
+  private BenchmarkComparison() {}
+
+  public static void main(String[] args) throws IOException {
+    if (args.length < 2) {
+      System.err.println("Usage: BenchmarkComparison <baseline.json> <current.json> [threshold]");
+      System.exit(2);
+    }
+    Map<String, Score> baseline = read(new File(args[0]));
+    Map<String, Score> current = read(new File(args[1]));
+    double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+    List<String> regressions = new ArrayList<>();
+    System.out.printf(
+        "%-70s %14s %14s %-8s %8s  %s%n", "benchmark", "baseline", "current", "unit", "change", "");
+    for (Map.Entry<String, Score> entry : current.entrySet()) {
+      Score now = entry.getValue();
+      Score before = baseline.get(entry.getKey());
+      if (before == null) {
+        System.out.printf(
+            "%-70s %14s %14.3f %-8s %8s  %s%n", entry.getKey(), "-", now.score, now.unit, "", "new");
+        continue;
+      }
+
+      double change = (now.score - before.score) / before.score * 100;
+      boolean significant = Math.abs(now.score - before.score) > before.error + now.error;
+      double slower = now.higherIsBetter() ? -change : change;
+      String verdict = "";
+      if (significant && slower > threshold) {
+        verdict = "REGRESSION";
+        regressions.add(entry.getKey());
+      } else if (significant && -slower > threshold) {
+        verdict = "improved";
+      }
+      System.out.printf(
+          "%-70s %14.3f %14.3f %-8s %+7.1f%%  %s%n",
+          entry.getKey(), before.score, now.score, now.unit, change, verdict);
+    }
+
+    if (!regressions.isEmpty()) {
+      System.out.printf(
+          "%d benchmark(s) regressed by more than %.0f%%: %s%n",
+          regressions.size(), threshold, regressions);
+      System.exit(1);
+    }
+  }
+
+  private static Map<String, Score> read(File file) throws IOException {
+    Map<String, Score> scores = new LinkedHashMap<>();
+    for (JsonNode result : new ObjectMapper().readTree(file)) {
+      JsonNode metric = result.get("primaryMetric");
+      String mode = result.get("mode").asText();
+      Score score =
+          new Score(
+              mode,
+              metric.get("score").asDouble(),
+              metric.path("scoreError").asDouble(0),
+              metric.get("scoreUnit").asText());
+      scores.put(key(result), score);
+    }
+    return scores;
+  }
+
+  private static String key(JsonNode result) {
+    String benchmark = result.get("benchmark").asText();
+    benchmark = benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+    Map<String, String> params = new TreeMap<>();
+    JsonNode paramsNode = result.path("params");
+    for (Iterator<Map.Entry<String, JsonNode>> it = paramsNode.fields(); it.hasNext(); ) {
+      Map.Entry<String, JsonNode> param = it.next();
+      params.put(param.getKey(), param.getValue().asText());
+    }
+    return params.isEmpty() ? benchmark : benchmark + " " + params;
+  }
+
+  private record Score(String mode, double score, double error, String unit) {
+
+    // NaN errors come from single-iteration runs.
+    Score {
+      error = Double.isNaN(error) ? 0 : error;
+    }
+
+    boolean higherIsBetter() {
+      return "thrpt".equals(mode);
+    }
+  }
+}
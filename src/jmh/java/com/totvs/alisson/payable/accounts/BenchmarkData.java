@@ -0,0 +1,66 @@
+package com.totvs.alisson.payable.accounts;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/** Deterministic sample data shared by the benchmarks, shaped like a typical import file. */
+public final class BenchmarkData {
+
+  private static final LocalDate DAY = LocalDate.now().plusDays(1);
+
+  private BenchmarkData() {}
+
+  public static List<AccountCsvRecord> csvRecords(int count) {
+    List<AccountCsvRecord> records = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      AccountCsvRecord record = new AccountCsvRecord();
+      record.setAmount(amount(i));
+      record.setDueDate(DAY.plusDays(i % 365));
+      record.setPaymentDate(i % 2 == 0 ? DAY.minusDays(2 + i % 30) : null);
+      record.setDescription(description(i));
+      record.setStatus(i % 2 == 0 ? "PAGO" : "PENDENTE");
+      record.setImportStatus("SUCCESS");
+      records.add(record);
+    }
+    return records;
+  }
+
+  public static AccountRequest request(int i) {
+    AccountRequest request = new AccountRequest();
+    request.setAmount(amount(i));
+    request.setDueDate(DAY.plusDays(i % 365));
+    request.setPaymentDate(i % 2 == 0 ? DAY.minusDays(2 + i % 30) : null);
+    request.setDescription(description(i));
+    request.setStatus(i % 2 == 0 ? "PAGO" : "pendente");
+    return request;
+  }
+
+  public static List<Account> accounts(int count) {
+    List<Account> accounts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      AccountRequest request = request(i);
+      Account account = new Account();
+      account.setId(1_000_000L + i);
+      account.setAmount(request.getAmount());
+      account.setDueDate(request.getDueDate());
+      account.setPaymentDate(request.getPaymentDate());
+      account.setDescription(request.getDescription());
+      account.setStatus(i % 2 == 0 ? "PAGO" : "PENDENTE");
+      accounts.add(account);
+    }
+    return accounts;
+  }
+
+  private static BigDecimal amount(int i) {
+    return BigDecimal.valueOf(100 + i % 10_000, 2);
+  }
+
+  private static String description(int i) {
+    return i % 10 == 0 ? "Conta \"" + i + "\", luz" : "Conta de consumo " + i;
+  }
+}
@@ -0,0 +1,55 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.totvs.alisson.payable.accounts.BenchmarkData;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Serializing a page of {@link AccountResponse} as {@code GET /api/accounts} returns it, with an
+ * object mapper configured like Spring Boot's.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountResponsePageBenchmark {
+
+  @Param({"20", "100"})
+  public int pageSize;
+
+  private ObjectWriter writer;
+  private Page<AccountResponse> page;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    writer = objectMapper.writer();
+    List<AccountResponse> content =
+        BenchmarkData.accounts(pageSize).stream().map(AccountResponse::new).toList();
+    page = new PageImpl<>(content, PageRequest.of(3, pageSize), 3_000_000L);
+  }
+
+  @Benchmark
+  public byte[] serializePage() throws Exception {
+    return writer.writeValueAsBytes(page);
+  }
+}
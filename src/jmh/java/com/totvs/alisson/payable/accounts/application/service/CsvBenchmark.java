@@ -0,0 +1,55 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.totvs.alisson.payable.accounts.BenchmarkData;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+
+/** Parsing and writing a whole accounts CSV file in memory. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBenchmark {
+
+  @Param({"10000"})
+  public int rows;
+
+  private final CsvParserService parserService = new CsvParserService();
+  private final CsvExportService exportService = new CsvExportService();
+
+  private List<AccountCsvRecord> records;
+  private MockMultipartFile file;
+
+  @Setup
+  public void setUp() {
+    records = BenchmarkData.csvRecords(rows);
+    byte[] csv = exportService.generateCsvOutput(records).getBytes(StandardCharsets.UTF_8);
+    file = new MockMultipartFile("file", "accounts.csv", "text/csv", csv);
+  }
+
+  @Benchmark
+  public List<AccountCsvRecord> parseCsvFile() throws Exception {
+    return parserService.parseCsvFile(file);
+  }
+
+  @Benchmark
+  public String generateCsvOutput() {
+    return exportService.generateCsvOutput(records);
+  }
+}
@@ -0,0 +1,31 @@
+package com.totvs.alisson.payable.accounts.domain.factory;
+
+import com.totvs.alisson.payable.accounts.BenchmarkData;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountFactoryBenchmark {
+
+  private final AccountRequest request = BenchmarkData.request(1);
+
+  @Benchmark
+  public Account createFrom() {
+    return AccountFactory.createFrom(request);
+  }
+}
@@ -0,0 +1,59 @@
+package com.totvs.alisson.payable.accounts.domain.validation;
+
+import com.totvs.alisson.payable.accounts.BenchmarkData;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Bean Validation of one request; invalid requests also build their violation messages. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountValidatorBenchmark {
+
+  @Param({"VALID", "INVALID"})
+  public String request;
+
+  private ValidatorFactory validatorFactory;
+  private AccountValidator validator;
+  private AccountRequest accountRequest;
+
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    validator = new AccountValidator(validatorFactory.getValidator());
+    accountRequest = BenchmarkData.request(1);
+    if ("INVALID".equals(request)) {
+      accountRequest.setAmount(BigDecimal.ZERO);
+      accountRequest.setDescription(" ");
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public List<String> validate() {
+    return validator.validate(accountRequest);
+  }
+}
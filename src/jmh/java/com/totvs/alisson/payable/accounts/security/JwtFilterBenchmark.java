@@ -0,0 +1,93 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.UserCheckEnum;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Cost of authenticating one request in {@link JwtFilter}, without the user status check.
+ * {@code PREVIOUS} is the filter as it was before {@link VerifiedTokenCache}: the token parsed and
+ * verified three times. {@code UNCACHED} verifies it once per request and {@code CACHED} once per
+ * token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+  @Param({"PREVIOUS", "UNCACHED", "CACHED"})
+  public String mode;
+
+  private final UserDetails user = new User("benchmark", "secret", Collections.emptyList());
+  private final FilterChain chain = (request, response) -> {};
+
+  private JwtUtil jwtUtil;
+  private JwtFilter filter;
+  private String token;
+  private MockHttpServletRequest request;
+
+  @Setup
+  public void setUp() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(JwtUtilBenchmark.SECRET);
+    jwtUtil = new JwtUtil(jwtProperties);
+    jwtProperties.setVerifiedCacheSize("UNCACHED".equals(mode) ? 0 : 10_000);
+    jwtProperties.setUserCheck(UserCheckEnum.NONE);
+    filter =
+        new JwtFilter(
+            new VerifiedTokenCache(jwtUtil, jwtProperties),
+            new UserTokenStatusCache(null, jwtProperties),
+            new SimpleMeterRegistry());
+
+    token = jwtUtil.generateToken(user);
+    request = new MockHttpServletRequest("GET", "/api/accounts");
+    request.addHeader("Authorization", "Bearer " + token);
+  }
+
+  @Benchmark
+  public Authentication authenticate() throws Exception {
+    if ("PREVIOUS".equals(mode)) {
+      authenticatePreviously();
+    } else {
+      filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    SecurityContextHolder.clearContext();
+    return authentication;
+  }
+
+  private void authenticatePreviously() {
+    String username = jwtUtil.extractUsername(token);
+    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+      if (jwtUtil.validateToken(token, user)) {
+        SecurityContextHolder.getContext()
+            .setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+      }
+    }
+  }
+}
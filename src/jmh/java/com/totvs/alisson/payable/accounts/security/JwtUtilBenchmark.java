@@ -0,0 +1,78 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Throughput of signing and verifying tokens in {@link JwtUtil}. {@code PREVIOUS} is how it worked
+ * before the key and parser were built once: the Base64 secret decoded and a parser built on every
+ * call. Run with {@code -Djmh.args="JwtUtilBenchmark -t 4"} to measure it from several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+  static final String SECRET = "9dpskVbCKFt5Xtr13WRzwfSnPXMGxaZAix5umXxHOsE=";
+
+  @Param({"PREVIOUS", "CURRENT"})
+  public String mode;
+
+  private final UserDetails user = new User("benchmark", "secret", Collections.emptyList());
+
+  private JwtUtil jwtUtil;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    jwtUtil = new JwtUtil(jwtProperties);
+    token = jwtUtil.generateToken(user);
+  }
+
+  @Benchmark
+  public String generate() {
+    if ("PREVIOUS".equals(mode)) {
+      return Jwts.builder()
+          .setClaims(new HashMap<>())
+          .setSubject(user.getUsername())
+          .setIssuedAt(new Date(System.currentTimeMillis()))
+          .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+          .signWith(SignatureAlgorithm.HS256, SECRET)
+          .compact();
+    }
+    return jwtUtil.generateToken(user);
+  }
+
+  @Benchmark
+  public Object verify() {
+    if ("PREVIOUS".equals(mode)) {
+      Claims claims = Jwts.parser().setSigningKey(SECRET).parseClaimsJws(token).getBody();
+      return claims.getSubject();
+    }
+    return jwtUtil.verify(token);
+  }
+}
@@ -1,11 +1,21 @@
 package com.totvs.alisson.payable.accounts.application.controller;
 
+import com.opencsv.exceptions.CsvValidationException;
 import com.totvs.alisson.payable.accounts.application.dto.*;
+import com.totvs.alisson.payable.accounts.application.service.AccountCsvReader;
+import com.totvs.alisson.payable.accounts.application.service.AccountExportService;
 import com.totvs.alisson.payable.accounts.application.service.CsvExportService;
+import com.totvs.alisson.payable.accounts.application.service.CsvImportService;
 import com.totvs.alisson.payable.accounts.application.service.CsvParserService;
 import com.totvs.alisson.payable.accounts.domain.entity.Account;
 import com.totvs.alisson.payable.accounts.domain.enums.AccountStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.ExportFormatEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.TotalModeEnum;
+import com.totvs.alisson.payable.accounts.domain.exception.BulkLimitExceededException;
 import com.totvs.alisson.payable.accounts.domain.exception.InvalidAccountStatusException;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCsvFileException;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCursorException;
 import com.totvs.alisson.payable.accounts.domain.service.AccountService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,6 +27,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -30,7 +41,9 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/accounts")
@@ -38,18 +51,26 @@ import org.springframework.web.multipart.MultipartFile;
 @SecurityRequirement(name = "bearerAuth")
 public class AccountController {
 
+  private static final int MAX_PAGE_SIZE = 1000;
+
   private final AccountService accountService;
   private final CsvParserService csvParserService;
   private final CsvExportService csvExportService;
+  private final CsvImportService csvImportService;
+  private final AccountExportService accountExportService;
 
   @Autowired
   public AccountController(
       AccountService accountService,
       CsvParserService csvParserService,
-      CsvExportService csvExportService) {
+      CsvExportService csvExportService,
+      CsvImportService csvImportService,
+      AccountExportService accountExportService) {
     this.accountService = accountService;
     this.csvParserService = csvParserService;
     this.csvExportService = csvExportService;
+    this.csvImportService = csvImportService;
+    this.accountExportService = accountExportService;
   }
 
   @PostMapping
@@ -111,6 +132,174 @@ public class AccountController {
     return ResponseEntity.ok(accountResponsesPage);
   }
 
+  @GetMapping("/slice")
+  @Operation(
+      summary = "List accounts without counting them",
+      description =
+          "Same filters, paging and sorting as the plain listing, but only tells whether there is"
+              + " a next page. A total can be requested as a short-lived cached count or as a"
+              + " planner estimate.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = SlicePage.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<SlicePage<AccountResponse>> findSlice(
+      @RequestParam(required = false) String description,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateStart,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateEnd,
+      @RequestParam(defaultValue = "NONE")
+          @Parameter(description = "NONE, CACHED (exact, reused for a few seconds) or ESTIMATED")
+          TotalModeEnum total,
+      Pageable pageable) {
+    SlicePage<Account> accounts =
+        accountService.findSlice(description, dueDateStart, dueDateEnd, pageable, total);
+
+    return ResponseEntity.ok(accounts.map(AccountResponse::new));
+  }
+
+  @GetMapping("/cursor")
+  @Operation(
+      summary = "List accounts with a cursor",
+      description =
+          "Returns accounts ordered by due date and id, one page at a time. Pass the nextCursor"
+              + " of a page to get the next one. Every page costs the same, however deep it is.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<CursorPage<AccountResponse>> findAllByCursor(
+      @RequestParam(required = false) String description,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateStart,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateEnd,
+      @RequestParam(required = false) @Parameter(description = "nextCursor of the previous page")
+          String cursor,
+      @RequestParam(defaultValue = "20") int size,
+      @RequestParam(defaultValue = "false")
+          @Parameter(description = "Also count all matching accounts (runs a COUNT query)")
+          boolean includeTotal) {
+    CursorPage<Account> accounts =
+        accountService.findAllByCursor(
+            description,
+            dueDateStart,
+            dueDateEnd,
+            cursor != null ? AccountCursor.decode(cursor) : null,
+            Math.max(1, Math.min(size, MAX_PAGE_SIZE)),
+            includeTotal);
+
+    return ResponseEntity.ok(accounts.map(AccountResponse::new));
+  }
+
+  @GetMapping("/export")
+  @Operation(
+      summary = "Export accounts",
+      description =
+          "Streams every account matching the list filters, ordered by due date and id, as CSV or"
+              + " NDJSON (one JSON object per line).")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts exported",
+            content = {
+              @Content(mediaType = "text/csv", schema = @Schema(type = "string")),
+              @Content(mediaType = "application/x-ndjson", schema = @Schema(type = "string"))
+            }),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<StreamingResponseBody> export(
+      @RequestParam(required = false) String description,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateStart,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+          LocalDate dueDateEnd,
+      @RequestParam(defaultValue = "CSV")
+          @Parameter(description = "Output format: CSV or NDJSON (one JSON object per line)")
+          ExportFormatEnum format) {
+    StreamingResponseBody body =
+        output ->
+            accountExportService.export(description, dueDateStart, dueDateEnd, format, output);
+
+    boolean csv = format == ExportFormatEnum.CSV;
+    return ResponseEntity.ok()
+        .header("Content-Disposition", "attachment; filename=accounts." + (csv ? "csv" : "ndjson"))
+        .contentType(csv ? new MediaType("text", "csv") : MediaType.APPLICATION_NDJSON)
+        .body(body);
+  }
+
+  @GetMapping("/search")
+  @Operation(
+      summary = "Search accounts by description",
+      description =
+          "Full-text search over the descriptions using the Portuguese dictionary, so plurals and"
+              + " other word forms match. Accepts quoted phrases and -word to exclude a word."
+              + " Results come best match first; pass the nextCursor of a page to get the next one.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CursorPage.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<CursorPage<AccountResponse>> search(
+      @RequestParam String q,
+      @RequestParam(required = false) @Parameter(description = "nextCursor of the previous page")
+          String cursor,
+      @RequestParam(defaultValue = "20") int size) {
+    CursorPage<Account> accounts =
+        accountService.search(
+            q,
+            cursor != null ? SearchCursor.decode(cursor) : null,
+            Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+
+    return ResponseEntity.ok(accounts.map(AccountResponse::new));
+  }
+
   @GetMapping("/{id}")
   @Operation(
       summary = "Get an account by ID",
@@ -227,13 +416,43 @@ public class AccountController {
                     mediaType = "application/json",
                     schema = @Schema(implementation = ErrorResponse.class)))
       })
-  public ResponseEntity<Double> getTotalPaid(
+  public ResponseEntity<BigDecimal> getTotalPaid(
       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-    double totalPaid = accountService.getTotalPaid(startDate, endDate);
+    BigDecimal totalPaid = accountService.getTotalPaid(startDate, endDate);
     return ResponseEntity.ok(totalPaid);
   }
 
+  @GetMapping("/total-paid/summary")
+  @Operation(
+      summary = "Summarize payments",
+      description =
+          "Returns the count, total, smallest and largest amount of the accounts paid within a"
+              + " period, overall and per status")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Summary calculated",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = PaidSummaryResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<PaidSummaryResponse> getPaidSummary(
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+    return ResponseEntity.ok(
+        new PaidSummaryResponse(accountService.getPaidSummary(startDate, endDate)));
+  }
+
   @DeleteMapping("/{id}")
   @Operation(summary = "Delete an account", description = "Removes an existing account")
   @ApiResponses(
@@ -252,6 +471,94 @@ public class AccountController {
     return ResponseEntity.noContent().build();
   }
 
+  @PostMapping("/bulk")
+  @Operation(
+      summary = "Create many accounts",
+      description =
+          "Creates the accounts of a JSON array with a single insert. Invalid accounts are"
+              + " reported and skipped; the result of each account is at its position in the"
+              + " array.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts processed",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BulkResponse> createAll(@RequestBody List<AccountRequest> requests) {
+    return ResponseEntity.ok(new BulkResponse(accountService.createAll(requests)));
+  }
+
+  @PatchMapping("/bulk/status")
+  @Operation(
+      summary = "Update the status of many accounts",
+      description =
+          "Sets the status, and the payment date when given, of every listed account with a"
+              + " single update. Ids that do not exist are reported as NOT_FOUND.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts processed",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BulkResponse> updateStatusAll(
+      @Valid @RequestBody BulkStatusUpdateRequest request) {
+    List<BulkItemResult> results =
+        accountService.updateStatusAll(
+            request.getIds(),
+            AccountStatusEnum.fromString(request.getStatus()),
+            request.getPaymentDate());
+    return ResponseEntity.ok(new BulkResponse(results));
+  }
+
+  @PostMapping("/bulk/delete")
+  @Operation(
+      summary = "Delete many accounts",
+      description =
+          "Removes every listed account with a single delete. Ids that do not exist are reported"
+              + " as NOT_FOUND.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Accounts processed",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = BulkResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Bad Request",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<BulkResponse> deleteAll(@Valid @RequestBody BulkDeleteRequest request) {
+    return ResponseEntity.ok(new BulkResponse(accountService.deleteAll(request.getIds())));
+  }
+
   @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   @Operation(
       summary = "Import accounts from a CSV file",
@@ -285,10 +592,15 @@ public class AccountController {
                   @Content(
                       mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
                       schema = @Schema(type = "string", format = "binary")))
-          MultipartFile file) {
+          MultipartFile file,
+      @RequestParam(defaultValue = "JPA")
+          @Parameter(
+              description =
+                  "Import engine: JPA (batched ORM inserts) or COPY (PostgreSQL COPY FROM STDIN)")
+          ImportEngineEnum engine) {
     try {
       List<AccountCsvRecord> records = csvParserService.parseCsvFile(file);
-      List<AccountCsvRecord> processedRecords = accountService.saveAllFromCsv(records);
+      List<AccountCsvRecord> processedRecords = csvImportService.process(records, engine);
       String outputCsv = csvExportService.generateCsvOutput(processedRecords);
 
       return ResponseEntity.ok()
@@ -306,6 +618,81 @@ public class AccountController {
     }
   }
 
+  @PostMapping(value = "/import/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @Operation(
+      summary = "Import accounts from a CSV file in streaming mode",
+      description =
+          "Upload a CSV file to import accounts. Rows are read, persisted and written to the"
+              + " result CSV in chunks, so memory usage does not grow with the file size.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "CSV file accepted. Streams back a CSV file with results.",
+            content = @Content(mediaType = "text/plain", schema = @Schema(type = "string"))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid file or file format.",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<StreamingResponseBody> importAccountsFromCsvStreaming(
+      @RequestPart("file")
+          @Parameter(
+              description = "CSV file to be uploaded",
+              content =
+                  @Content(
+                      mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                      schema = @Schema(type = "string", format = "binary")))
+          MultipartFile file,
+      @RequestParam(defaultValue = "JPA")
+          @Parameter(
+              description =
+                  "Import engine: JPA (batched ORM inserts) or COPY (PostgreSQL COPY FROM STDIN)")
+          ImportEngineEnum engine)
+      throws IOException, CsvValidationException {
+    AccountCsvReader reader = csvParserService.openReader(file.getInputStream());
+    StreamingResponseBody body = output -> csvImportService.importCsv(reader, output, engine);
+
+    return ResponseEntity.ok()
+        .header("Content-Disposition", "attachment; filename=import_results.csv")
+        .contentType(MediaType.TEXT_PLAIN)
+        .body(body);
+  }
+
+  @ExceptionHandler(InvalidCsvFileException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCsvFile(InvalidCsvFileException ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+    return ResponseEntity.badRequest().body(errorResponse);
+  }
+
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+    return ResponseEntity.badRequest().body(errorResponse);
+  }
+
+  @ExceptionHandler(BulkLimitExceededException.class)
+  public ResponseEntity<ErrorResponse> handleBulkLimitExceeded(BulkLimitExceededException ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(LocalDateTime.now(), HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+    return ResponseEntity.badRequest().body(errorResponse);
+  }
+
+  @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+  public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Invalid value for parameter " + ex.getName() + ": " + ex.getValue());
+    return ResponseEntity.badRequest().body(errorResponse);
+  }
+
   @ExceptionHandler(InvalidAccountStatusException.class)
   public ResponseEntity<ErrorResponse> handleBadRequest(InvalidAccountStatusException ex) {
     ErrorResponse errorResponse =
@@ -3,11 +3,16 @@ package com.totvs.alisson.payable.accounts.application.controller;
 import com.totvs.alisson.payable.accounts.application.dto.AuthenticationRequest;
 import com.totvs.alisson.payable.accounts.application.dto.AuthenticationResponse;
 import com.totvs.alisson.payable.accounts.application.dto.RegistrationRequest;
+import com.totvs.alisson.payable.accounts.application.dto.ErrorResponse;
 import com.totvs.alisson.payable.accounts.application.service.AuthService;
+import com.totvs.alisson.payable.accounts.domain.exception.PasswordHashingRejectedException;
+import java.time.LocalDateTime;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -39,4 +44,23 @@ public class AuthController {
       return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
     }
   }
+
+  @PostMapping("/revoke")
+  public ResponseEntity<?> revokeTokens(Authentication authentication) {
+    if (authentication == null) {
+      return new ResponseEntity<>("Authentication required", HttpStatus.UNAUTHORIZED);
+    }
+    authService.revokeTokens(authentication.getName());
+    return ResponseEntity.noContent().build();
+  }
+
+  @ExceptionHandler(PasswordHashingRejectedException.class)
+  public ResponseEntity<ErrorResponse> handleHashingRejected(PasswordHashingRejectedException ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            LocalDateTime.now(), HttpStatus.TOO_MANY_REQUESTS.value(), ex.getMessage());
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header("Retry-After", "1")
+        .body(errorResponse);
+  }
 }
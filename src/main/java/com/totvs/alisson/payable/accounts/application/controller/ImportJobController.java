@@ -0,0 +1,181 @@
+package com.totvs.alisson.payable.accounts.application.controller;
+
+import com.opencsv.exceptions.CsvValidationException;
+import com.totvs.alisson.payable.accounts.application.dto.ErrorResponse;
+import com.totvs.alisson.payable.accounts.application.dto.ImportJobResponse;
+import com.totvs.alisson.payable.accounts.application.service.ImportJobService;
+import com.totvs.alisson.payable.accounts.domain.entity.ImportJob;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobNotFinishedException;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobNotFoundException;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobRejectedException;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCsvFileException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.IOException;
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/accounts/import")
+@Tag(name = "Account Imports", description = "API for running CSV imports in the background")
+@SecurityRequirement(name = "bearerAuth")
+public class ImportJobController {
+
+  private final ImportJobService importJobService;
+
+  @Autowired
+  public ImportJobController(ImportJobService importJobService) {
+    this.importJobService = importJobService;
+  }
+
+  @PostMapping(value = "/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @Operation(
+      summary = "Start an asynchronous CSV import",
+      description =
+          "Stores the uploaded CSV file and imports it in the background. Returns the job that"
+              + " can be polled for progress.")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Import job accepted",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid file or file format.",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many imports in progress.",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<ImportJobResponse> submit(
+      @RequestPart("file")
+          @Parameter(
+              description = "CSV file to be uploaded",
+              content =
+                  @Content(
+                      mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                      schema = @Schema(type = "string", format = "binary")))
+          MultipartFile file,
+      @RequestParam(defaultValue = "JPA")
+          @Parameter(
+              description =
+                  "Import engine: JPA (batched ORM inserts) or COPY (PostgreSQL COPY FROM STDIN)")
+          ImportEngineEnum engine)
+      throws IOException, CsvValidationException {
+    ImportJob job = importJobService.submit(file, engine);
+    return ResponseEntity.accepted()
+        .location(URI.create("/api/accounts/import/" + job.getId()))
+        .body(new ImportJobResponse(job));
+  }
+
+  @GetMapping("/{jobId}")
+  @Operation(
+      summary = "Get an import job",
+      description = "Returns the status, progress and throughput of an import job")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import job found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ImportJobResponse.class))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Import job not found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<ImportJobResponse> getById(@PathVariable UUID jobId) {
+    return ResponseEntity.ok(new ImportJobResponse(importJobService.getById(jobId)));
+  }
+
+  @GetMapping("/{jobId}/result")
+  @Operation(
+      summary = "Download the result of an import job",
+      description = "Returns the CSV file with the per-row results of a completed import job")
+  @ApiResponses(
+      value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "CSV file with results.",
+            content = @Content(mediaType = "text/plain", schema = @Schema(type = "string"))),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Import job not found",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Import job has not completed",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+      })
+  public ResponseEntity<StreamingResponseBody> getResult(@PathVariable UUID jobId) {
+    ImportJob job = importJobService.getCompleted(jobId);
+    StreamingResponseBody body = output -> importJobService.writeResult(job.getId(), output);
+    return ResponseEntity.ok()
+        .header("Content-Disposition", "attachment; filename=import_results.csv")
+        .contentType(MediaType.TEXT_PLAIN)
+        .body(body);
+  }
+
+  @ExceptionHandler(InvalidCsvFileException.class)
+  public ResponseEntity<ErrorResponse> handleInvalidCsvFile(InvalidCsvFileException ex) {
+    return error(HttpStatus.BAD_REQUEST, ex);
+  }
+
+  @ExceptionHandler(ImportJobNotFoundException.class)
+  public ResponseEntity<ErrorResponse> handleNotFound(ImportJobNotFoundException ex) {
+    return error(HttpStatus.NOT_FOUND, ex);
+  }
+
+  @ExceptionHandler(ImportJobNotFinishedException.class)
+  public ResponseEntity<ErrorResponse> handleNotFinished(ImportJobNotFinishedException ex) {
+    return error(HttpStatus.CONFLICT, ex);
+  }
+
+  @ExceptionHandler(ImportJobRejectedException.class)
+  public ResponseEntity<ErrorResponse> handleRejected(ImportJobRejectedException ex) {
+    return error(HttpStatus.SERVICE_UNAVAILABLE, ex);
+  }
+
+  private ResponseEntity<ErrorResponse> error(HttpStatus status, Exception ex) {
+    ErrorResponse errorResponse =
+        new ErrorResponse(LocalDateTime.now(), status.value(), ex.getMessage());
+    return ResponseEntity.status(status).body(errorResponse);
+  }
+}
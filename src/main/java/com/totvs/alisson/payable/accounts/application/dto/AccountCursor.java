@@ -0,0 +1,45 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position of the last account of a page in the {@code (dueDate, id)} order. Clients receive it as
+ * an opaque, URL-safe string and send it back to fetch the next page.
+ */
+@Getter
+@AllArgsConstructor
+public class AccountCursor {
+
+  private final LocalDate dueDate;
+  private final Long id;
+
+  public static AccountCursor after(Account account) {
+    return new AccountCursor(account.getDueDate(), account.getId());
+  }
+
+  public String encode() {
+    String raw = dueDate + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static AccountCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      return new AccountCursor(
+          LocalDate.parse(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
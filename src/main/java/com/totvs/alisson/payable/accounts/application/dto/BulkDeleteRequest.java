@@ -0,0 +1,15 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class BulkDeleteRequest {
+
+  @NotEmpty(message = "Ids are required")
+  private List<@NotNull(message = "Ids must not be null") Long> ids;
+}
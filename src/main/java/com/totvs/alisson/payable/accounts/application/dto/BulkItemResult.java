@@ -0,0 +1,14 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** Outcome of one item of a bulk request, at the same position as the item in the request. */
+@Getter
+@AllArgsConstructor
+public class BulkItemResult {
+  private int index;
+  private Long id;
+  private String status;
+  private String errorMessage;
+}
@@ -0,0 +1,17 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class BulkResponse {
+  private int succeeded;
+  private int failed;
+  private List<BulkItemResult> items;
+
+  public BulkResponse(List<BulkItemResult> items) {
+    this.items = items;
+    this.failed = (int) items.stream().filter(item -> item.getErrorMessage() != null).count();
+    this.succeeded = items.size() - failed;
+  }
+}
@@ -0,0 +1,26 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PastOrPresent;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+@Getter
+@Setter
+public class BulkStatusUpdateRequest {
+
+  @NotEmpty(message = "Ids are required")
+  private List<@NotNull(message = "Ids must not be null") Long> ids;
+
+  @NotNull(message = "Status is required")
+  private String status;
+
+  /** Set on every account when given; otherwise the payment dates are left as they are. */
+  @PastOrPresent(message = "Payment date must be in the past or present")
+  @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+  private LocalDate paymentDate;
+}
@@ -0,0 +1,26 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+
+  private final List<T> content;
+  private final int size;
+  private final boolean hasNext;
+
+  /** Cursor of the next page, {@code null} on the last page. */
+  private final String nextCursor;
+
+  /** Number of matching accounts, only computed when the client asks for it. */
+  private final Long totalElements;
+
+  public <R> CursorPage<R> map(Function<T, R> mapper) {
+    return new CursorPage<>(
+        content.stream().map(mapper).toList(), size, hasNext, nextCursor, totalElements);
+  }
+}
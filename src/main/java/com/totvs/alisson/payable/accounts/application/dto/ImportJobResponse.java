@@ -0,0 +1,43 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.totvs.alisson.payable.accounts.domain.entity.ImportJob;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Getter;
+
+@Getter
+public class ImportJobResponse {
+  private UUID id;
+  private String status;
+  private String engine;
+  private String fileName;
+  private long rowsProcessed;
+  private long rowsSucceeded;
+  private long rowsFailed;
+  private double rowsPerSecond;
+  private String errorMessage;
+  private Instant createdAt;
+  private Instant startedAt;
+  private Instant finishedAt;
+
+  public ImportJobResponse(ImportJob job) {
+    this.id = job.getId();
+    this.status = job.getStatus();
+    this.engine = job.getEngine();
+    this.fileName = job.getFileName();
+    this.rowsProcessed = job.getRowsProcessed();
+    this.rowsSucceeded = job.getRowsSucceeded();
+    this.rowsFailed = job.getRowsFailed();
+    this.errorMessage = job.getErrorMessage();
+    this.createdAt = job.getCreatedAt();
+    this.startedAt = job.getStartedAt();
+    this.finishedAt = job.getFinishedAt();
+
+    if (job.getStartedAt() != null) {
+      Instant end = job.getFinishedAt() != null ? job.getFinishedAt() : Instant.now();
+      long millis = Duration.between(job.getStartedAt(), end).toMillis();
+      this.rowsPerSecond = millis > 0 ? job.getRowsProcessed() * 1000.0 / millis : 0;
+    }
+  }
+}
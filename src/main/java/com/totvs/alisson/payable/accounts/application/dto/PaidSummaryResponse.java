@@ -0,0 +1,48 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.totvs.alisson.payable.accounts.domain.repository.PaidSummaryRow;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class PaidSummaryResponse {
+
+  private long count;
+  private BigDecimal total = BigDecimal.ZERO;
+  private BigDecimal min;
+  private BigDecimal max;
+  private final List<StatusSummary> byStatus = new ArrayList<>();
+
+  public PaidSummaryResponse(List<PaidSummaryRow> rows) {
+    for (PaidSummaryRow row : rows) {
+      if (row.isOverall()) {
+        this.count = row.getCount();
+        this.total = row.getTotal() != null ? row.getTotal() : BigDecimal.ZERO;
+        this.min = row.getMin();
+        this.max = row.getMax();
+      } else {
+        byStatus.add(new StatusSummary(row));
+      }
+    }
+  }
+
+  @Getter
+  public static class StatusSummary {
+
+    private final String status;
+    private final long count;
+    private final BigDecimal total;
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    public StatusSummary(PaidSummaryRow row) {
+      this.status = row.getStatus();
+      this.count = row.getCount();
+      this.total = row.getTotal();
+      this.min = row.getMin();
+      this.max = row.getMax();
+    }
+  }
+}
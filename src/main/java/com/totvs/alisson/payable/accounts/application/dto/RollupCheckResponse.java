@@ -0,0 +1,39 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.totvs.alisson.payable.accounts.domain.repository.RollupMismatch;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RollupCheckResponse {
+
+  private final boolean consistent;
+  private final List<Day> mismatches;
+
+  public RollupCheckResponse(List<RollupMismatch> mismatches) {
+    this(mismatches.isEmpty(), mismatches.stream().map(Day::new).toList());
+  }
+
+  /** Totals of one day as computed from contas (expected) and as stored in the rollup (actual). */
+  @Getter
+  public static class Day {
+
+    private final LocalDate paymentDate;
+    private final BigDecimal expectedTotal;
+    private final BigDecimal actualTotal;
+    private final long expectedCount;
+    private final long actualCount;
+
+    public Day(RollupMismatch mismatch) {
+      this.paymentDate = mismatch.getPaymentDate();
+      this.expectedTotal = mismatch.getExpectedTotal();
+      this.actualTotal = mismatch.getActualTotal();
+      this.expectedCount = mismatch.getExpectedCount() != null ? mismatch.getExpectedCount() : 0;
+      this.actualCount = mismatch.getActualCount() != null ? mismatch.getActualCount() : 0;
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCursorException;
+import com.totvs.alisson.payable.accounts.domain.repository.RankedAccount;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position of the last account of a search page in the {@code (rank DESC, id)} order. The rank is
+ * a PostgreSQL {@code real}, which {@link Float#toString} writes back without loss.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+
+  private final float rank;
+  private final Long id;
+
+  public static SearchCursor after(RankedAccount rankedAccount) {
+    return new SearchCursor(rankedAccount.getRank(), rankedAccount.getAccount().getId());
+  }
+
+  public String encode() {
+    String raw = rank + ":" + id;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static SearchCursor decode(String cursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(':');
+      return new SearchCursor(
+          Float.parseFloat(raw.substring(0, separator)),
+          Long.parseLong(raw.substring(separator + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      throw new InvalidCursorException(cursor);
+    }
+  }
+}
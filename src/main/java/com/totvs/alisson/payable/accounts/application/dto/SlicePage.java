@@ -0,0 +1,27 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SlicePage<T> {
+
+  private final List<T> content;
+  private final int number;
+  private final int size;
+  private final boolean hasNext;
+
+  /** Number of matching accounts, {@code null} when no total was requested. */
+  private final Long totalElements;
+
+  /** How {@link #totalElements} was obtained: NONE, CACHED or ESTIMATED. */
+  private final String totalMode;
+
+  public <R> SlicePage<R> map(Function<T, R> mapper) {
+    return new SlicePage<>(
+        content.stream().map(mapper).toList(), number, size, hasNext, totalElements, totalMode);
+  }
+}
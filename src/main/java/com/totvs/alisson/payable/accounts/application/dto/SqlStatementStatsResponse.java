@@ -0,0 +1,27 @@
+package com.totvs.alisson.payable.accounts.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * What was recorded for one normalized statement. Counts, totals and means cover everything since
+ * start-up or the last reset; the percentiles and the maximum only the last few minutes.
+ */
+@Getter
+@AllArgsConstructor
+public class SqlStatementStatsResponse {
+
+  private final String statement;
+  private final String operation;
+  private final long count;
+  private final long errors;
+  private final double totalMs;
+  private final double meanMs;
+  private final double p50Ms;
+  private final double p95Ms;
+  private final double p99Ms;
+  private final double maxMs;
+  private final long rows;
+  private final long slow;
+  private final long likelyNPlusOne;
+}
@@ -0,0 +1,111 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvValidationException;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidCsvFileException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Forward-only reader over an accounts CSV file. Rows are converted one at a time, so callers
+ * decide how many records are held in memory.
+ *
+ * <p>In lenient mode a row that cannot be converted is returned already flagged with an {@code
+ * ERROR} import status instead of aborting the whole file, since a streaming import may have
+ * written part of its response by the time the bad row is reached.
+ */
+public class AccountCsvReader implements Closeable {
+
+  private static final List<String> REQUIRED_COLUMNS =
+      List.of("amount", "duedate", "paymentdate", "description", "status");
+
+  private final CSVReader csvReader;
+  private final boolean lenient;
+  private final Map<String, Integer> columnIndices = new HashMap<>();
+
+  AccountCsvReader(Reader reader, boolean lenient) throws IOException, CsvValidationException {
+    this.csvReader = new CSVReader(reader);
+    this.lenient = lenient;
+    try {
+      readHeaders();
+    } catch (IOException | CsvValidationException | RuntimeException e) {
+      csvReader.close();
+      throw e;
+    }
+  }
+
+  private void readHeaders() throws IOException, CsvValidationException {
+    String[] headers = csvReader.readNext();
+    if (headers == null) {
+      throw new InvalidCsvFileException("CSV file is empty or missing headers");
+    }
+
+    for (int i = 0; i < headers.length; i++) {
+      columnIndices.put(headers[i].trim().toLowerCase(), i);
+    }
+
+    for (String column : REQUIRED_COLUMNS) {
+      if (!columnIndices.containsKey(column)) {
+        throw new InvalidCsvFileException("Missing required column: " + column);
+      }
+    }
+  }
+
+  public AccountCsvRecord readNext() throws IOException, CsvValidationException {
+    String[] nextRecord = csvReader.readNext();
+    if (nextRecord == null) {
+      return null;
+    }
+    return toRecord(nextRecord);
+  }
+
+  public List<AccountCsvRecord> readChunk(int chunkSize)
+      throws IOException, CsvValidationException {
+    List<AccountCsvRecord> chunk = new ArrayList<>(chunkSize);
+    AccountCsvRecord record;
+    while (chunk.size() < chunkSize && (record = readNext()) != null) {
+      chunk.add(record);
+    }
+    return chunk;
+  }
+
+  private AccountCsvRecord toRecord(String[] row) {
+    AccountCsvRecord record = new AccountCsvRecord();
+    try {
+      record.setDescription(row[columnIndices.get("description")]);
+      record.setStatus(row[columnIndices.get("status")]);
+      record.setAmount(new BigDecimal(row[columnIndices.get("amount")]));
+      record.setDueDate(
+          LocalDate.parse(row[columnIndices.get("duedate")], DateTimeFormatter.ISO_LOCAL_DATE));
+      record.setPaymentDate(parseDate(row[columnIndices.get("paymentdate")]));
+    } catch (RuntimeException e) {
+      if (!lenient) {
+        throw e;
+      }
+      record.setImportStatus("ERROR");
+      record.setErrorMessage("Invalid row: " + e.getMessage());
+    }
+    return record;
+  }
+
+  private LocalDate parseDate(String dateString) {
+    if (dateString == null || dateString.trim().isEmpty()) {
+      return null;
+    }
+    return LocalDate.parse(dateString, DateTimeFormatter.ISO_LOCAL_DATE);
+  }
+
+  @Override
+  public void close() throws IOException {
+    csvReader.close();
+  }
+}
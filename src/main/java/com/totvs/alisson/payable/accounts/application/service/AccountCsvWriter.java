@@ -0,0 +1,57 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.opencsv.CSVWriter;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/** Writes import results as CSV directly to the underlying writer, one row at a time. */
+public class AccountCsvWriter implements Closeable, Flushable {
+
+  private static final String[] HEADER = {
+    "amount", "dueDate", "paymentDate", "description", "status", "importStatus", "errorMessage"
+  };
+
+  private final CSVWriter csvWriter;
+
+  AccountCsvWriter(Writer writer) {
+    this.csvWriter = new CSVWriter(writer);
+    csvWriter.writeNext(HEADER);
+  }
+
+  public void write(AccountCsvRecord record) {
+    String[] row = {
+      toString(record.getAmount()),
+      toString(record.getDueDate()),
+      toString(record.getPaymentDate()),
+      record.getDescription(),
+      record.getStatus(),
+      record.getImportStatus(),
+      record.getErrorMessage() != null ? record.getErrorMessage() : ""
+    };
+    csvWriter.writeNext(row);
+  }
+
+  public void writeAll(List<AccountCsvRecord> records) {
+    for (AccountCsvRecord record : records) {
+      write(record);
+    }
+  }
+
+  private static String toString(Object value) {
+    return value != null ? value.toString() : "";
+  }
+
+  @Override
+  public void flush() throws IOException {
+    csvWriter.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    csvWriter.close();
+  }
+}
@@ -0,0 +1,129 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.opencsv.CSVWriter;
+import com.totvs.alisson.payable.accounts.application.dto.AccountResponse;
+import com.totvs.alisson.payable.accounts.config.ExportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.enums.ExportFormatEnum;
+import com.totvs.alisson.payable.accounts.domain.service.AccountService;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Writes the accounts matching the list filters as CSV or NDJSON while they are read from the
+ * database cursor, so memory use does not depend on the number of accounts exported.
+ */
+@Service
+public class AccountExportService {
+
+  private static final String[] CSV_HEADER = {
+    "id", "amount", "dueDate", "paymentDate", "description", "status"
+  };
+
+  private final AccountService accountService;
+  private final ExportProperties exportProperties;
+  private final ObjectWriter jsonWriter;
+
+  @Autowired
+  public AccountExportService(
+      AccountService accountService, ExportProperties exportProperties, ObjectMapper objectMapper) {
+    this.accountService = accountService;
+    this.exportProperties = exportProperties;
+    this.jsonWriter =
+        objectMapper
+            .writerFor(AccountResponse.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("");
+  }
+
+  public void export(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      ExportFormatEnum format,
+      OutputStream output)
+      throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    try {
+      switch (format) {
+        case CSV -> exportCsv(description, dueDateStart, dueDateEnd, writer);
+        case NDJSON -> exportNdjson(description, dueDateStart, dueDateEnd, writer);
+      }
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
+  /**
+   * CSVWriter only records write failures, so they are checked every {@code fetchSize} rows to
+   * stop reading the cursor soon after the client goes away.
+   */
+  private void exportCsv(
+      String description, LocalDate dueDateStart, LocalDate dueDateEnd, Writer writer)
+      throws IOException {
+    CSVWriter csvWriter = new CSVWriter(writer);
+    csvWriter.writeNext(CSV_HEADER);
+    int fetchSize = exportProperties.getFetchSize();
+    long[] rows = {0};
+
+    accountService.exportFiltered(
+        description,
+        dueDateStart,
+        dueDateEnd,
+        fetchSize,
+        account -> {
+          csvWriter.writeNext(toRow(account));
+          if (++rows[0] % fetchSize == 0 && csvWriter.checkError()) {
+            throw new UncheckedIOException(csvWriter.getException());
+          }
+        });
+
+    if (csvWriter.checkError()) {
+      throw csvWriter.getException();
+    }
+  }
+
+  private void exportNdjson(
+      String description, LocalDate dueDateStart, LocalDate dueDateEnd, Writer writer)
+      throws IOException {
+    JsonGenerator generator = jsonWriter.createGenerator(writer);
+    accountService.exportFiltered(
+        description,
+        dueDateStart,
+        dueDateEnd,
+        exportProperties.getFetchSize(),
+        account -> {
+          try {
+            jsonWriter.writeValue(generator, new AccountResponse(account));
+            generator.writeRaw('\n');
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        });
+    generator.flush();
+  }
+
+  private static String[] toRow(Account account) {
+    return new String[] {
+      String.valueOf(account.getId()),
+      account.getAmount().toPlainString(),
+      account.getDueDate().toString(),
+      account.getPaymentDate() != null ? account.getPaymentDate().toString() : "",
+      account.getDescription(),
+      account.getStatus() != null ? account.getStatus() : ""
+    };
+  }
+}
@@ -6,14 +6,15 @@ import com.totvs.alisson.payable.accounts.application.dto.AuthenticationResponse
 import com.totvs.alisson.payable.accounts.application.dto.RegistrationRequest;
 import com.totvs.alisson.payable.accounts.domain.entity.User;
 import com.totvs.alisson.payable.accounts.domain.repository.UserRepository;
+import com.totvs.alisson.payable.accounts.security.BoundedPasswordEncoder;
 import com.totvs.alisson.payable.accounts.security.JwtUtil;
 import com.totvs.alisson.payable.accounts.security.UserDetailsServiceImpl;
+import com.totvs.alisson.payable.accounts.security.UserTokenStatusCache;
 import org.springframework.beans.factory.annotation.Autowired; // Import and use @Autowired
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,7 +33,10 @@ public class AuthService {
   private UserRepository userRepository;
 
   @Autowired
-  private BCryptPasswordEncoder passwordEncoder;
+  private BoundedPasswordEncoder passwordEncoder;
+
+  @Autowired
+  private UserTokenStatusCache userTokenStatusCache;
 
   public AuthenticationResponse authenticate(AuthenticationRequest authenticationRequest)
       throws Exception {
@@ -62,4 +66,9 @@ public class AuthService {
     user.setPassword(passwordEncoder.encode(registrationRequest.getPassword()));
     userRepository.save(user);
   }
+
+  /** Rejects every token issued to the user so far; the user has to authenticate again. */
+  public void revokeTokens(String username) {
+    userTokenStatusCache.revoke(username);
+  }
 }
@@ -1,8 +1,8 @@
 package com.totvs.alisson.payable.accounts.application.service;
 
-import com.opencsv.CSVWriter;
 import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -11,28 +11,16 @@ public class CsvExportService {
 
   public String generateCsvOutput(List<AccountCsvRecord> records) {
     StringWriter writer = new StringWriter();
-    try (CSVWriter csvWriter = new CSVWriter(writer)) {
-      String[] header = {
-        "amount", "dueDate", "paymentDate", "description", "status", "importStatus", "errorMessage"
-      };
-      csvWriter.writeNext(header);
-
-      for (AccountCsvRecord record : records) {
-        String[] row = {
-          record.getAmount().toString(),
-          record.getDueDate().toString(),
-          record.getPaymentDate() != null ? record.getPaymentDate().toString() : "",
-          record.getDescription(),
-          record.getStatus(),
-          record.getImportStatus(),
-          record.getErrorMessage() != null ? record.getErrorMessage() : ""
-        };
-        csvWriter.writeNext(row);
-      }
+    try (AccountCsvWriter csvWriter = openWriter(writer)) {
+      csvWriter.writeAll(records);
     } catch (Exception e) {
       throw new RuntimeException("Failed to generate CSV output", e);
     }
 
     return writer.toString();
   }
+
+  public AccountCsvWriter openWriter(Writer writer) {
+    return new AccountCsvWriter(writer);
+  }
 }
@@ -0,0 +1,112 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.opencsv.exceptions.CsvValidationException;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.service.AccountCsvImporter;
+import com.totvs.alisson.payable.accounts.infrastructure.persistence.AccountCopyLoader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CsvImportService {
+
+  private final AccountCsvImporter accountCsvImporter;
+  private final CsvExportService csvExportService;
+  private final AccountCopyLoader accountCopyLoader;
+  private final ImportProperties importProperties;
+
+  @Autowired
+  public CsvImportService(
+      AccountCsvImporter accountCsvImporter,
+      CsvExportService csvExportService,
+      AccountCopyLoader accountCopyLoader,
+      ImportProperties importProperties) {
+    this.accountCsvImporter = accountCsvImporter;
+    this.csvExportService = csvExportService;
+    this.accountCopyLoader = accountCopyLoader;
+    this.importProperties = importProperties;
+  }
+
+  /**
+   * Reads, persists and writes back the rows of {@code reader} one chunk at a time, so at most
+   * {@code accounts.import.chunk-size} records are held in memory. The output stream is flushed
+   * after every chunk but left open for the caller.
+   */
+  public void importCsv(AccountCsvReader reader, OutputStream output, ImportEngineEnum engine)
+      throws IOException {
+    importCsv(reader, output, engine, chunk -> {});
+  }
+
+  /** Same as above, calling {@code onChunk} with the results of every chunk once it is written. */
+  public void importCsv(
+      AccountCsvReader reader,
+      OutputStream output,
+      ImportEngineEnum engine,
+      Consumer<List<AccountCsvRecord>> onChunk)
+      throws IOException {
+    try (reader) {
+      AccountCsvWriter writer =
+          csvExportService.openWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+      List<AccountCsvRecord> chunk;
+      while (!(chunk = reader.readChunk(importProperties.getChunkSize())).isEmpty()) {
+        List<AccountCsvRecord> processed = process(chunk, engine);
+        writer.writeAll(processed);
+        writer.flush();
+        onChunk.accept(processed);
+      }
+    } catch (CsvValidationException e) {
+      throw new IOException("Failed to read the CSV file: " + e.getMessage(), e);
+    }
+  }
+
+  public List<AccountCsvRecord> process(List<AccountCsvRecord> records, ImportEngineEnum engine) {
+    return switch (engine) {
+      case JPA -> accountCsvImporter.saveAll(records);
+      case COPY -> copyFromCsv(records);
+    };
+  }
+
+  /**
+   * Validates the records and loads the valid ones with COPY. A COPY statement is atomic, so if
+   * it fails every record of the chunk that passed validation is reported as {@code ERROR}.
+   */
+  private List<AccountCsvRecord> copyFromCsv(List<AccountCsvRecord> records) {
+    List<AccountCsvRecord> validRecords = new ArrayList<>();
+    List<Account> accounts = new ArrayList<>();
+
+    List<Account> prepared = accountCsvImporter.prepareAll(records);
+    for (int i = 0; i < records.size(); i++) {
+      if (prepared.get(i) != null) {
+        validRecords.add(records.get(i));
+        accounts.add(prepared.get(i));
+      }
+    }
+
+    try {
+      accountCopyLoader.copy(accounts);
+      for (AccountCsvRecord record : validRecords) {
+        record.setImportStatus("SUCCESS");
+        record.setErrorMessage(null);
+      }
+    } catch (SQLException e) {
+      for (AccountCsvRecord record : validRecords) {
+        record.setImportStatus("ERROR");
+        record.setErrorMessage("Bulk load failed: " + e.getMessage());
+      }
+    }
+
+    return records;
+  }
+}
@@ -0,0 +1,328 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.opencsv.exceptions.CsvValidationException;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.ImportJob;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportJobStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobNotFinishedException;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobNotFoundException;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobRejectedException;
+import com.totvs.alisson.payable.accounts.domain.repository.ImportJobRepository;
+import com.totvs.alisson.payable.accounts.infrastructure.persistence.ImportFileStore;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * Runs CSV imports in the background. Uploads and results are stored in the database through
+ * {@link ImportFileStore} and imported on a bounded pool, so a large file never holds a request
+ * thread while it is imported and any node can serve a job. Job state lives in the {@code
+ * importacoes} table. A job stays {@code UPLOADING} until its upload is fully stored.
+ *
+ * <p>Each job is owned by the node that queued it, which refreshes the job's heartbeat every
+ * {@code accounts.import.jobs.heartbeat-interval}. Jobs whose heartbeat is older than {@code
+ * stale-after} belong to a node that stopped, and are taken over by whichever node claims them
+ * first.
+ */
+@Service
+public class ImportJobService {
+
+  private static final Logger log = LoggerFactory.getLogger(ImportJobService.class);
+
+  private final ImportJobRepository repository;
+  private final ImportFileStore fileStore;
+  private final CsvParserService csvParserService;
+  private final CsvImportService csvImportService;
+  private final ImportProperties.Jobs properties;
+  private final Path storageDir;
+  private final ThreadPoolTaskExecutor executor;
+  private final ThreadPoolTaskScheduler scheduler;
+  private final String nodeId = UUID.randomUUID().toString();
+  private final Set<UUID> ownedJobs = ConcurrentHashMap.newKeySet();
+
+  @Autowired
+  public ImportJobService(
+      ImportJobRepository repository,
+      ImportFileStore fileStore,
+      CsvParserService csvParserService,
+      CsvImportService csvImportService,
+      ImportProperties importProperties,
+      Environment environment)
+      throws IOException {
+    this.repository = repository;
+    this.fileStore = fileStore;
+    this.csvParserService = csvParserService;
+    this.csvImportService = csvImportService;
+    this.properties = importProperties.getJobs();
+    this.storageDir = Files.createDirectories(Paths.get(properties.getStorageDir()));
+
+    this.executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setThreadNamePrefix("import-job-");
+    executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+    executor.initialize();
+
+    this.scheduler = new ThreadPoolTaskScheduler();
+    scheduler.setThreadNamePrefix("import-job-heartbeat-");
+    scheduler.initialize();
+  }
+
+  public ImportJob submit(MultipartFile file, ImportEngineEnum engine)
+      throws IOException, CsvValidationException {
+    // Fail fast on a broken header instead of accepting a job that can only fail.
+    try (InputStream inputStream = file.getInputStream()) {
+      csvParserService.openReader(inputStream).close();
+    }
+
+    ImportJob job = new ImportJob();
+    job.setId(UUID.randomUUID());
+    job.setStatus(ImportJobStatusEnum.UPLOADING.name());
+    job.setEngine(engine.name());
+    job.setFileName(file.getOriginalFilename());
+    job.setCreatedAt(Instant.now());
+    job.setOwner(nodeId);
+    job.setHeartbeatAt(job.getCreatedAt());
+    repository.save(job);
+
+    // The heartbeat keeps the job from being taken over while a large upload is stored.
+    UUID id = job.getId();
+    ownedJobs.add(id);
+    try (InputStream inputStream = file.getInputStream()) {
+      fileStore.store(id, ImportFileStore.File.INPUT, inputStream);
+      if (repository.queue(id, nodeId, Instant.now()) == 0) {
+        throw new JobTakenOverException(id);
+      }
+    } catch (IOException | RuntimeException e) {
+      ownedJobs.remove(id);
+      discard(id);
+      throw e;
+    }
+
+    try {
+      executor.execute(() -> run(id));
+    } catch (TaskRejectedException e) {
+      ownedJobs.remove(id);
+      discard(id);
+      throw new ImportJobRejectedException();
+    }
+
+    job.setStatus(ImportJobStatusEnum.QUEUED.name());
+    return job;
+  }
+
+  public ImportJob getById(UUID id) {
+    return repository.findById(id).orElseThrow(() -> new ImportJobNotFoundException(id));
+  }
+
+  /** The job, once it has completed and its result can be downloaded with {@link #writeResult}. */
+  public ImportJob getCompleted(UUID id) {
+    ImportJob job = getById(id);
+    if (!ImportJobStatusEnum.COMPLETED.name().equals(job.getStatus())) {
+      throw new ImportJobNotFinishedException(id, job.getStatus());
+    }
+    return job;
+  }
+
+  public void writeResult(UUID id, OutputStream output) throws IOException {
+    if (!fileStore.copy(id, ImportFileStore.File.RESULT, output)) {
+      throw new IllegalStateException("The result of import job " + id + " is missing");
+    }
+  }
+
+  /** Starts refreshing the heartbeat of this node's jobs and taking over those of stopped nodes. */
+  @EventListener(ApplicationReadyEvent.class)
+  public void startHeartbeat() {
+    scheduler.scheduleWithFixedDelay(
+        () -> {
+          heartbeat();
+          reclaimStaleJobs();
+        },
+        properties.getHeartbeatInterval());
+  }
+
+  void heartbeat() {
+    if (!ownedJobs.isEmpty()) {
+      repository.heartbeat(List.copyOf(ownedJobs), nodeId, Instant.now());
+    }
+  }
+
+  /**
+   * Takes over the jobs of nodes that stopped reporting. Jobs that were running cannot be resumed
+   * safely, since part of their rows may already be committed, and jobs whose upload was not fully
+   * stored cannot run at all, so both are marked as failed. Jobs that never started are queued
+   * here; if the pool is full they are left for a later attempt.
+   */
+  void reclaimStaleJobs() {
+    Instant now = Instant.now();
+    Instant staleBefore = now.minus(properties.getStaleAfter());
+    List<ImportJob> stale =
+        repository.findStale(
+            List.of(
+                ImportJobStatusEnum.UPLOADING.name(),
+                ImportJobStatusEnum.QUEUED.name(),
+                ImportJobStatusEnum.RUNNING.name()),
+            staleBefore);
+
+    for (ImportJob job : stale) {
+      UUID id = job.getId();
+      if (repository.claim(id, job.getStatus(), staleBefore, nodeId, now) == 0) {
+        continue;
+      }
+      log.info("Taking over import job {} from node {}", id, job.getOwner());
+
+      ImportJobStatusEnum status = ImportJobStatusEnum.valueOf(job.getStatus());
+      if (status == ImportJobStatusEnum.QUEUED) {
+        ownedJobs.add(id);
+        try {
+          executor.execute(() -> run(id));
+        } catch (TaskRejectedException e) {
+          ownedJobs.remove(id);
+          log.warn("Could not requeue import job {}, it will be retried later", id);
+        }
+      } else {
+        fail(
+            id,
+            status,
+            status == ImportJobStatusEnum.UPLOADING
+                ? "Upload interrupted: the node receiving it stopped"
+                : "Import interrupted: the node running it stopped");
+        deleteInputQuietly(id);
+      }
+    }
+  }
+
+  /**
+   * Runs a job this node owns. Every status and progress write is conditional on this node still
+   * owning the job, so a node that stalled past {@code stale-after} cannot overwrite what the node
+   * that took the job over decided; it stops as soon as one of its writes matches no row.
+   */
+  private void run(UUID id) {
+    if (repository.start(id, nodeId, Instant.now()) == 0) {
+      // Taken over by another node while it waited here.
+      ownedJobs.remove(id);
+      return;
+    }
+
+    Path input = storageDir.resolve(id + ".csv");
+    Path result = storageDir.resolve(id + "_results.csv");
+    try {
+      ImportJob job = getById(id);
+      try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(input))) {
+        if (!fileStore.copy(id, ImportFileStore.File.INPUT, output)) {
+          throw new IllegalStateException("The upload of import job " + id + " is missing");
+        }
+      }
+      try (InputStream inputStream = Files.newInputStream(input);
+          OutputStream output = new BufferedOutputStream(Files.newOutputStream(result))) {
+        csvImportService.importCsv(
+            csvParserService.openReader(inputStream),
+            output,
+            ImportEngineEnum.valueOf(job.getEngine()),
+            chunk -> updateProgress(id, chunk));
+      }
+      try (InputStream inputStream = Files.newInputStream(result)) {
+        fileStore.store(id, ImportFileStore.File.RESULT, inputStream);
+      }
+
+      if (finish(id, ImportJobStatusEnum.RUNNING, ImportJobStatusEnum.COMPLETED, null) == 0) {
+        fileStore.delete(id, ImportFileStore.File.RESULT);
+        throw new JobTakenOverException(id);
+      }
+    } catch (JobTakenOverException e) {
+      log.warn("Import job {} was taken over by another node, stopping it here", id);
+    } catch (Exception e) {
+      log.error("Import job {} failed", id, e);
+      fail(id, ImportJobStatusEnum.RUNNING, e.getMessage());
+    } finally {
+      ownedJobs.remove(id);
+      deleteQuietly(input);
+      deleteQuietly(result);
+      deleteInputQuietly(id);
+    }
+  }
+
+  private void updateProgress(UUID id, List<AccountCsvRecord> chunk) {
+    long failed = chunk.stream().filter(r -> "ERROR".equals(r.getImportStatus())).count();
+    if (repository.addProgress(
+            id, nodeId, chunk.size(), chunk.size() - failed, failed, Instant.now())
+        == 0) {
+      throw new JobTakenOverException(id);
+    }
+  }
+
+  /** Marks a job of this node as failed, unless another node took it over first. */
+  private void fail(UUID id, ImportJobStatusEnum from, String message) {
+    String errorMessage =
+        message != null && message.length() > 1000 ? message.substring(0, 1000) : message;
+    if (finish(id, from, ImportJobStatusEnum.FAILED, errorMessage) == 0) {
+      log.warn("Import job {} was taken over by another node before it could be failed", id);
+    }
+  }
+
+  private int finish(
+      UUID id, ImportJobStatusEnum from, ImportJobStatusEnum status, String errorMessage) {
+    return repository.finish(id, nodeId, from.name(), status.name(), errorMessage, Instant.now());
+  }
+
+  /** Removes a job that was never accepted, along with its stored upload. */
+  private void discard(UUID id) {
+    deleteInputQuietly(id);
+    repository.deleteById(id);
+  }
+
+  private void deleteInputQuietly(UUID id) {
+    try {
+      fileStore.delete(id, ImportFileStore.File.INPUT);
+    } catch (IOException | RuntimeException e) {
+      log.warn("Could not delete the upload of import job {}", id, e);
+    }
+  }
+
+  private void deleteQuietly(Path path) {
+    try {
+      Files.deleteIfExists(path);
+    } catch (IOException e) {
+      log.warn("Could not delete {}", path, e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdown();
+    executor.shutdown();
+  }
+
+  /** Stops a run once another node has taken its job over. */
+  private static class JobTakenOverException extends RuntimeException {
+
+    JobTakenOverException(UUID id) {
+      super("Import job " + id + " was taken over by another node");
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.cache")
+public class AccountCacheProperties {
+
+  private Invalidation invalidation = new Invalidation();
+
+  @Getter
+  @Setter
+  public static class Invalidation {
+
+    /** Tell the other replicas, through PostgreSQL LISTEN/NOTIFY, which accounts changed. */
+    private boolean enabled = true;
+
+    /** NOTIFY channel shared by all replicas using the same database. */
+    private String channel = "contas_invalidacao";
+
+    /** Wait before reconnecting the listener after its connection is lost. */
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+  }
+}
@@ -0,0 +1,14 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.bulk")
+public class BulkProperties {
+
+  /** Largest number of accounts or ids accepted by a single bulk request. */
+  private int maxItems = 10_000;
+}
@@ -0,0 +1,14 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.export")
+public class ExportProperties {
+
+  /** Number of rows fetched from the database cursor per round trip while exporting. */
+  private int fetchSize = 1000;
+}
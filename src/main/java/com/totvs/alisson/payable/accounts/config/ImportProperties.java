@@ -0,0 +1,67 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.import")
+public class ImportProperties {
+
+  /** Number of CSV rows read, persisted and written back per chunk in streaming imports. */
+  private int chunkSize = 4000;
+
+  /**
+   * Number of accounts sent to the database in a single JDBC batch. Also drives {@code
+   * hibernate.jdbc.batch_size}, see application.yml.
+   */
+  private int batchSize = 500;
+
+  /** Number of threads validating CSV records in parallel. */
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+  /**
+   * Number of batches written to the database at the same time. Each writer holds a pooled
+   * connection while it saves a batch, so keep this below {@code
+   * spring.datasource.hikari.maximum-pool-size}.
+   */
+  private int writers = 4;
+
+  private final Jobs jobs = new Jobs();
+
+  @Getter
+  @Setter
+  public static class Jobs {
+
+    /** Number of import jobs that run at the same time. */
+    private int poolSize = 2;
+
+    /** Number of jobs that may wait for a free worker before uploads are rejected. */
+    private int queueCapacity = 20;
+
+    /**
+     * Local scratch directory for the jobs running on this node. Uploads and results are kept in
+     * the database; a running job only copies its upload here and writes its result here before
+     * storing it.
+     */
+    private String storageDir = System.getProperty("java.io.tmpdir") + "/accounts-import";
+
+    /** How often a node reports that it is still running or queueing its jobs. */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    /**
+     * Jobs whose node has not reported for this long are taken over by another node: queued jobs
+     * are run there, running jobs are marked as failed. Keep it well above the heartbeat interval.
+     */
+    private Duration staleAfter = Duration.ofMinutes(1);
+
+    /**
+     * Bytes of an upload or a result written to the database per transaction, so storing a large
+     * file never holds a connection or a transaction open for the whole copy.
+     */
+    private DataSize fileChunkSize = DataSize.ofMegabytes(16);
+  }
+}
@@ -0,0 +1,32 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import com.totvs.alisson.payable.accounts.domain.enums.UserCheckEnum;
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.jwt")
+public class JwtProperties {
+
+  /** Base64-encoded HMAC-SHA256 key that signs and verifies tokens; at least 256 bits. */
+  private String secret;
+
+  /** How long an issued token stays valid. */
+  private Duration expiration = Duration.ofHours(10);
+
+  /** Maximum number of verified tokens remembered; 0 verifies the signature on every request. */
+  private long verifiedCacheSize = 10_000;
+
+  /**
+   * Whether requests also check that the user is still enabled and has not revoked the token:
+   * never ({@code NONE}, the token alone is trusted until it expires), with the user's status
+   * cached for {@link #userCheckTtl} ({@code CACHED}), or on every request ({@code ALWAYS}).
+   */
+  private UserCheckEnum userCheck = UserCheckEnum.CACHED;
+
+  /** How long a user's status is reused when {@link #userCheck} is {@code CACHED}. */
+  private Duration userCheckTtl = Duration.ofSeconds(30);
+}
@@ -0,0 +1,18 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.listing")
+public class ListingProperties {
+
+  /** How long a computed total is reused for listings with the same filters. */
+  private Duration totalCacheTtl = Duration.ofSeconds(30);
+
+  /** Maximum number of distinct filter combinations whose totals are kept. */
+  private long totalCacheSize = 1000;
+}
@@ -0,0 +1,23 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.password-hashing")
+public class PasswordHashingProperties {
+
+  /**
+   * BCrypt work factor (log2 rounds) for new hashes. Existing hashes keep the cost they were made
+   * with and still verify.
+   */
+  private int strength = 10;
+
+  /** Number of threads hashing and verifying passwords, i.e. the CPUs logins may use at most. */
+  private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  /** Number of hashes that may wait for a free thread before logins are rejected with 429. */
+  private int queueCapacity = 32;
+}
@@ -0,0 +1,27 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.request-limit")
+public class RequestLimitProperties {
+
+  /**
+   * Whether {@code /api/**} requests are limited to the size of the connection pool. Follows
+   * {@code spring.threads.virtual.enabled} by default, see application.yml.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Number of API requests handled at the same time; 0 uses {@code
+   * spring.datasource.hikari.maximum-pool-size}.
+   */
+  private int maxConcurrent = 0;
+
+  /** How long a request waits for its turn before it is answered with 503. */
+  private Duration queueTimeout = Duration.ofSeconds(5);
+}
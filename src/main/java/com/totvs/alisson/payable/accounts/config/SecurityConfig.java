@@ -1,9 +1,13 @@
 package com.totvs.alisson.payable.accounts.config;
 
+import com.totvs.alisson.payable.accounts.security.BoundedPasswordEncoder;
 import com.totvs.alisson.payable.accounts.security.JwtFilter;
 import com.totvs.alisson.payable.accounts.security.UserDetailsServiceImpl;
+import jakarta.servlet.DispatcherType;
+import org.springframework.boot.actuate.autoconfigure.web.server.ManagementPortType;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -12,10 +16,10 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 @Configuration
 @EnableWebSecurity
@@ -23,25 +27,28 @@ public class SecurityConfig {
 
   private final UserDetailsServiceImpl userDetailsService;
   private final JwtFilter jwtFilter;
+  private final BoundedPasswordEncoder passwordEncoder;
+  private final Environment environment;
 
-  public SecurityConfig(UserDetailsServiceImpl userDetailsService, JwtFilter jwtFilter) {
+  public SecurityConfig(
+      UserDetailsServiceImpl userDetailsService,
+      JwtFilter jwtFilter,
+      BoundedPasswordEncoder passwordEncoder,
+      Environment environment) {
     this.userDetailsService = userDetailsService;
     this.jwtFilter = jwtFilter;
+    this.passwordEncoder = passwordEncoder;
+    this.environment = environment;
   }
 
   @Bean
   public AuthenticationProvider authenticationProvider() {
     DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
     authProvider.setUserDetailsService(userDetailsService);
-    authProvider.setPasswordEncoder(passwordEncoder());
+    authProvider.setPasswordEncoder(passwordEncoder);
     return authProvider;
   }
 
-  @Bean
-  public BCryptPasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
-
   @Bean
   public AuthenticationManager authenticationManager(AuthenticationConfiguration config)
       throws Exception {
@@ -53,6 +60,10 @@ public class SecurityConfig {
     http.authorizeHttpRequests(
             (authorize) ->
                 authorize
+                    // Streaming responses finish on an async dispatch of a request that was
+                    // already authorized, and that dispatch carries no token of its own.
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                    .permitAll()
                     .requestMatchers(new AntPathRequestMatcher("/v3/api-docs/**"))
                     .permitAll()
                     .requestMatchers(new AntPathRequestMatcher("/swagger-ui/**"))
@@ -63,6 +74,9 @@ public class SecurityConfig {
                     .permitAll()
                     .requestMatchers(new AntPathRequestMatcher("/api/auth/**"))
                     .permitAll()
+                    // Scrapers carry no token.
+                    .requestMatchers(onManagementPort("/actuator/prometheus"))
+                    .permitAll()
                     .requestMatchers(new AntPathRequestMatcher("/api/accounts/**"))
                     .authenticated()
                     .anyRequest()
@@ -76,4 +90,15 @@ public class SecurityConfig {
 
     return http.build();
   }
+
+  /**
+   * Matches {@code pattern} only when actuator is served on its own {@code
+   * management.server.port}, which is not exposed publicly. On the public port it never matches.
+   */
+  private RequestMatcher onManagementPort(String pattern) {
+    if (ManagementPortType.get(environment) != ManagementPortType.DIFFERENT) {
+      return request -> false;
+    }
+    return new AntPathRequestMatcher(pattern);
+  }
 }
@@ -0,0 +1,30 @@
+package com.totvs.alisson.payable.accounts.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "accounts.sql-stats")
+public class SqlStatsProperties {
+
+  /** Whether the DataSource is wrapped to record every SQL statement it runs. */
+  private boolean enabled = false;
+
+  /** Statements that take at least this long are logged, with their bind values redacted. */
+  private Duration slowThreshold = Duration.ofMillis(200);
+
+  /**
+   * How many times the same SELECT may run on one connection before it is reported as a likely
+   * N+1.
+   */
+  private int nPlusOneThreshold = 10;
+
+  /** Distinct statements kept; once full, new ones are counted under a single "other" entry. */
+  private int maxStatements = 500;
+
+  /** Statements listed by {@code /actuator/sqlstats} when no limit is given. */
+  private int top = 10;
+}
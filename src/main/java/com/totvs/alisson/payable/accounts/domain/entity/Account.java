@@ -11,8 +11,15 @@ import lombok.Data;
 @Table(name = "contas")
 public class Account {
 
+  /** Must match the increment of contas_id_seq, see V3__Use_Pooled_Sequence_For_Contas.sql. */
+  public static final int ID_ALLOCATION_SIZE = 50;
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contas_id_seq")
+  @SequenceGenerator(
+      name = "contas_id_seq",
+      sequenceName = "contas_id_seq",
+      allocationSize = ID_ALLOCATION_SIZE)
   @JsonIgnore
   private Long id;
 
@@ -0,0 +1,28 @@
+package com.totvs.alisson.payable.accounts.domain.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Row of the contas_pagas_diario rollup. Maintained by database triggers on contas, see
+ * V8__Create_Contas_Pagas_Diario_Rollup.sql, so it is never written from the application.
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "contas_pagas_diario")
+public class DailyPaidTotal {
+
+  @Id
+  @Column(name = "data_pagamento")
+  private LocalDate paymentDate;
+
+  @Column(name = "valor_total", precision = 18, scale = 2, nullable = false)
+  private BigDecimal total;
+
+  @Column(name = "quantidade", nullable = false)
+  private long count;
+}
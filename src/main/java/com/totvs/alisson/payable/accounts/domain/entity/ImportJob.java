@@ -0,0 +1,50 @@
+package com.totvs.alisson.payable.accounts.domain.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+
+@Data
+@Entity
+@Table(name = "importacoes")
+public class ImportJob {
+
+  @Id private UUID id;
+
+  @Column(name = "situacao", nullable = false)
+  private String status;
+
+  @Column(name = "motor", nullable = false)
+  private String engine;
+
+  @Column(name = "nome_arquivo")
+  private String fileName;
+
+  @Column(name = "linhas_processadas", nullable = false)
+  private long rowsProcessed;
+
+  @Column(name = "linhas_sucesso", nullable = false)
+  private long rowsSucceeded;
+
+  @Column(name = "linhas_erro", nullable = false)
+  private long rowsFailed;
+
+  @Column(name = "mensagem_erro", length = 1000)
+  private String errorMessage;
+
+  @Column(name = "criado_em", nullable = false, updatable = false)
+  private Instant createdAt;
+
+  @Column(name = "iniciado_em")
+  private Instant startedAt;
+
+  @Column(name = "finalizado_em")
+  private Instant finishedAt;
+
+  @Column(name = "no_responsavel", length = 64)
+  private String owner;
+
+  @Column(name = "heartbeat_em")
+  private Instant heartbeatAt;
+}
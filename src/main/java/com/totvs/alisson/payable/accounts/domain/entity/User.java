@@ -19,6 +19,11 @@ public class User {
 
   private String password;
 
+  @Column(nullable = false)
+  private boolean enabled = true;
+
+  private Instant tokensRevokedAt;
+
   @CreatedDate
   @Column(nullable = false, updatable = false)
   private Instant createdAt;
@@ -0,0 +1,10 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum BulkItemStatusEnum {
+  CREATED,
+  UPDATED,
+  DELETED,
+  NOT_FOUND,
+  INVALID,
+  FAILED
+}
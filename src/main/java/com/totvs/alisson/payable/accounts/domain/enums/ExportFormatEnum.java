@@ -0,0 +1,6 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum ExportFormatEnum {
+  CSV,
+  NDJSON
+}
@@ -0,0 +1,8 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum ImportEngineEnum {
+  /** Persists accounts through JPA using JDBC batches. */
+  JPA,
+  /** Streams accounts straight into the contas table with PostgreSQL COPY FROM STDIN. */
+  COPY
+}
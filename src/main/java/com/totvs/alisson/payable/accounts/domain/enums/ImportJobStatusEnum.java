@@ -0,0 +1,9 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum ImportJobStatusEnum {
+  UPLOADING,
+  QUEUED,
+  RUNNING,
+  COMPLETED,
+  FAILED
+}
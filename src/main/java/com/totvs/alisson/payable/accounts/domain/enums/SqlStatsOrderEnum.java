@@ -0,0 +1,8 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum SqlStatsOrderEnum {
+  MEAN,
+  P99,
+  MAX,
+  TOTAL
+}
@@ -0,0 +1,10 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum TotalModeEnum {
+  /** No total, only whether there is a next page. */
+  NONE,
+  /** Exact COUNT, reused for a short time for the same filters. */
+  CACHED,
+  /** Row estimate from the PostgreSQL planner statistics. */
+  ESTIMATED
+}
@@ -0,0 +1,7 @@
+package com.totvs.alisson.payable.accounts.domain.enums;
+
+public enum UserCheckEnum {
+  NONE,
+  CACHED,
+  ALWAYS
+}
@@ -0,0 +1,11 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BulkLimitExceededException extends RuntimeException {
+  public BulkLimitExceededException(int size, int maxItems) {
+    super(String.format("Bulk request has %d items, the maximum is %d", size, maxItems));
+  }
+}
@@ -0,0 +1,12 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ImportJobNotFinishedException extends RuntimeException {
+  public ImportJobNotFinishedException(UUID id, String status) {
+    super(String.format("Import job %s has no result available (status: %s)", id, status));
+  }
+}
@@ -0,0 +1,12 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import java.util.UUID;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class ImportJobNotFoundException extends RuntimeException {
+  public ImportJobNotFoundException(UUID id) {
+    super(String.format("Import job with id %s not found", id));
+  }
+}
@@ -0,0 +1,11 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ImportJobRejectedException extends RuntimeException {
+  public ImportJobRejectedException() {
+    super("Too many imports in progress, please try again later");
+  }
+}
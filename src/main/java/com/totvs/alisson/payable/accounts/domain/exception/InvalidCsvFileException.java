@@ -0,0 +1,12 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCsvFileException extends IllegalArgumentException {
+
+  public InvalidCsvFileException(String message) {
+    super(message);
+  }
+}
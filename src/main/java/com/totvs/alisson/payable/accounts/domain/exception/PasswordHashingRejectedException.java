@@ -0,0 +1,11 @@
+package com.totvs.alisson.payable.accounts.domain.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingRejectedException extends RuntimeException {
+  public PasswordHashingRejectedException() {
+    super("Too many logins in progress, please try again later");
+  }
+}
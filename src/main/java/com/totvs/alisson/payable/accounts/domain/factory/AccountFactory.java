@@ -19,4 +19,15 @@ public class AccountFactory {
 
     return account;
   }
+
+  public static Account copyOf(Account source) {
+    Account account = new Account();
+    account.setId(source.getId());
+    account.setAmount(source.getAmount());
+    account.setDescription(source.getDescription());
+    account.setDueDate(source.getDueDate());
+    account.setPaymentDate(source.getPaymentDate());
+    account.setStatus(source.getStatus());
+    return account;
+  }
 }
@@ -9,47 +9,131 @@ import java.util.List;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface AccountRepository
-    extends JpaRepository<Account, Long>, JpaSpecificationExecutor<Account> {
+    extends JpaRepository<Account, Long>,
+        JpaSpecificationExecutor<Account>,
+        AccountRepositoryCustom {
 
+  Sort KEYSET_SORT = Sort.by(Sort.Direction.ASC, "dueDate", "id");
+
+  char LIKE_ESCAPE = '\\';
+
+  /** Deletes the account without loading it first. Returns 0 when there was no such account. */
+  @Transactional
+  @Modifying
+  @Query("DELETE FROM Account a WHERE a.id = :id")
+  int deleteAccount(@Param("id") Long id);
+
+  /**
+   * Count, sum, min and max of the accounts paid in the period, per status and overall, in one
+   * pass over idx_contas_pagamento_valor_situacao. The overall row comes last.
+   */
   @Query(
-      "SELECT SUM(COALESCE(c.amount, 0)) FROM Account c WHERE c.paymentDate BETWEEN :startDate AND :endDate")
-  Double findTotalPaidInPeriod(
+      value =
+          "SELECT situacao AS \"status\", GROUPING(situacao) = 1 AS \"overall\","
+              + " COUNT(*) AS \"count\", SUM(valor) AS \"total\","
+              + " MIN(valor) AS \"min\", MAX(valor) AS \"max\""
+              + " FROM contas"
+              + " WHERE data_pagamento BETWEEN :startDate AND :endDate"
+              + " GROUP BY GROUPING SETS ((situacao), ())"
+              + " ORDER BY GROUPING(situacao), situacao",
+      nativeQuery = true)
+  List<PaidSummaryRow> summarizePaidInPeriod(
       @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
 
   default Page<Account> findAllFiltered(
       String description, LocalDate dueDateStart, LocalDate dueDateEnd, Pageable pageable) {
+    return findAll(filter(description, dueDateStart, dueDateEnd), pageable);
+  }
+
+  default Slice<Account> findSliceFiltered(
+      String description, LocalDate dueDateStart, LocalDate dueDateEnd, Pageable pageable) {
+    return findSlice(filter(description, dueDateStart, dueDateEnd), pageable);
+  }
 
-    Specification<Account> spec =
-        (root, query, criteriaBuilder) -> {
-          List<Predicate> predicates = new ArrayList<>();
+  /**
+   * Returns up to {@code limit} accounts ordered by {@code (dueDate, id)} that come after the
+   * given position, or from the start when {@code afterDueDate} is {@code null}. The query seeks
+   * straight to the position through idx_contas_vencimento_id, so it costs the same on every page.
+   */
+  default List<Account> findAllFilteredAfter(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      LocalDate afterDueDate,
+      Long afterId,
+      int limit) {
 
-          if (description != null && !description.isBlank()) {
-            predicates.add(
-                criteriaBuilder.like(
-                    criteriaBuilder.lower(root.get("description")),
-                    "%" + description.toLowerCase() + "%"));
-          }
+    Specification<Account> spec = filter(description, dueDateStart, dueDateEnd);
 
-          if (dueDateStart != null) {
-            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), dueDateStart));
-          }
+    if (afterDueDate != null) {
+      // The redundant "dueDate >= :afterDueDate" bounds the index range scan; the OR alone would
+      // make PostgreSQL read the index from the beginning and filter.
+      spec =
+          spec.and(
+              (root, query, criteriaBuilder) ->
+                  criteriaBuilder.and(
+                      criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), afterDueDate),
+                      criteriaBuilder.or(
+                          criteriaBuilder.greaterThan(root.get("dueDate"), afterDueDate),
+                          criteriaBuilder.greaterThan(root.get("id"), afterId))));
+    }
 
-          if (dueDateEnd != null) {
-            predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueDate"), dueDateEnd));
-          }
+    return findBy(spec, query -> query.sortBy(KEYSET_SORT).limit(limit).all());
+  }
 
-          return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
-        };
+  default long countFiltered(String description, LocalDate dueDateStart, LocalDate dueDateEnd) {
+    return count(filter(description, dueDateStart, dueDateEnd));
+  }
+
+  static Specification<Account> filter(
+      String description, LocalDate dueDateStart, LocalDate dueDateEnd) {
+    return (root, query, criteriaBuilder) -> {
+      List<Predicate> predicates = new ArrayList<>();
+
+      if (description != null && !description.isBlank()) {
+        predicates.add(
+            criteriaBuilder.like(
+                criteriaBuilder.lower(root.get("description")),
+                containsPattern(description),
+                LIKE_ESCAPE));
+      }
+
+      if (dueDateStart != null) {
+        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("dueDate"), dueDateStart));
+      }
+
+      if (dueDateEnd != null) {
+        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("dueDate"), dueDateEnd));
+      }
+
+      return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+    };
+  }
 
-    return findAll(spec, pageable);
+  /**
+   * LIKE pattern matching descriptions that contain {@code term}, case-insensitively. Wildcards in
+   * the term are escaped with {@link #LIKE_ESCAPE}, so "50%" only matches a literal "50%". It must
+   * be applied to {@code lower(descricao)} for idx_contas_descricao_trgm to be used.
+   */
+  static String containsPattern(String term) {
+    String escaped =
+        term.toLowerCase()
+            .replace(String.valueOf(LIKE_ESCAPE), LIKE_ESCAPE + String.valueOf(LIKE_ESCAPE))
+            .replace("%", LIKE_ESCAPE + "%")
+            .replace("_", LIKE_ESCAPE + "_");
+    return "%" + escaped + "%";
   }
 }
@@ -0,0 +1,64 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface AccountRepositoryCustom {
+
+  /** Like {@code findAll(spec, pageable)}, but fetches one extra row instead of running COUNT. */
+  Slice<Account> findSlice(Specification<Account> spec, Pageable pageable);
+
+  /** Planner estimate of the number of accounts matching the list filters. */
+  long estimateCount(String description, LocalDate dueDateStart, LocalDate dueDateEnd);
+
+  /**
+   * Passes every account matching the list filters to {@code consumer}, ordered by {@code
+   * (dueDate, id)}, reading {@code fetchSize} rows at a time from a forward-only cursor. PostgreSQL
+   * only uses a cursor inside a transaction; with autocommit the whole result is loaded first.
+   */
+  void streamFiltered(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      int fetchSize,
+      Consumer<Account> consumer);
+
+  /**
+   * Full-text search over the description, best matches first. Returns up to {@code limit}
+   * accounts ordered by {@code (rank DESC, id)} that come after the given position, or from the
+   * start when {@code afterId} is {@code null}.
+   */
+  List<RankedAccount> search(String query, Float afterRank, Long afterId, int limit);
+
+  /**
+   * Overwrites every column of the account with {@code values} and returns the stored row, or an
+   * empty result when there is no account with that id. One {@code UPDATE ... RETURNING}
+   * statement, without loading the account first.
+   */
+  Optional<Account> updateReturning(Long id, Account values);
+
+  /** Like {@link #updateReturning}, but only changes the status. */
+  Optional<Account> updateStatusReturning(Long id, String status);
+
+  /**
+   * Inserts the accounts with one {@code INSERT ... SELECT FROM unnest(...)} statement and sets
+   * their ids. Either all accounts are inserted or none is.
+   */
+  void insertAll(List<Account> accounts);
+
+  /**
+   * Sets the status, and the payment date when it is not {@code null}, of every account in {@code
+   * ids} with one statement. Returns the ids that exist.
+   */
+  List<Long> updateStatusWhereIdIn(Collection<Long> ids, String status, LocalDate paymentDate);
+
+  /** Deletes every account in {@code ids} with one statement. Returns the ids that existed. */
+  List<Long> deleteWhereIdIn(Collection<Long> ids);
+}
@@ -0,0 +1,325 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class AccountRepositoryCustomImpl implements AccountRepositoryCustom {
+
+  // websearch_to_tsquery accepts free text ("boleto -energia", quoted phrases) and never fails on
+  // syntax. ts_rank is computed once per matching row in the subquery; ties are broken by id so
+  // the order is total and pages neither repeat nor skip rows.
+  private static final String SEARCH_SQL =
+      "SELECT * FROM ("
+          + " SELECT c.id, c.valor, c.data_vencimento, c.data_pagamento, c.descricao, c.situacao,"
+          + " ts_rank(c.descricao_tsv, q) AS rank"
+          + " FROM contas c, websearch_to_tsquery('portuguese', ?) q"
+          + " WHERE c.descricao_tsv @@ q) ranked";
+
+  private static final String SEARCH_AFTER = " WHERE rank < ? OR (rank = ? AND id > ?)";
+
+  private static final String SEARCH_ORDER = " ORDER BY rank DESC, id LIMIT ?";
+
+  /**
+   * The search statement, binding the query and the limit, plus the rank, rank and id of the last
+   * row of the previous page when {@code afterCursor}.
+   */
+  static String searchSql(boolean afterCursor) {
+    return SEARCH_SQL + (afterCursor ? SEARCH_AFTER : "") + SEARCH_ORDER;
+  }
+
+  private static final String RETURNING =
+      " RETURNING id, valor, data_vencimento, data_pagamento, descricao, situacao";
+
+  // The input rows are numbered by unnest; ids are reserved from contas_id_seq with Hibernate's
+  // pooled semantics (each nextval is the upper bound of a block of Account.ID_ALLOCATION_SIZE
+  // ids, see AccountCopyLoader) and numbered in ascending order, so row n gets the n-th id. One
+  // block more than needed is reserved because a fresh sequence hands out a single-id block.
+  private static final String INSERT_ALL_SQL =
+      "WITH input AS ("
+          + " SELECT * FROM unnest(?::numeric[], ?::date[], ?::date[], ?::text[], ?::text[])"
+          + " WITH ORDINALITY AS t(valor, data_vencimento, data_pagamento, descricao, situacao, n)),"
+          + " blocks AS MATERIALIZED ("
+          + " SELECT nextval('contas_id_seq') AS hi FROM generate_series(1, ?)),"
+          + " ids AS ("
+          + " SELECT id, row_number() OVER (ORDER BY id) AS n"
+          + " FROM blocks, generate_series(greatest(1, hi - ? + 1), hi) AS id),"
+          + " inserted AS ("
+          + " INSERT INTO contas (id, valor, data_vencimento, data_pagamento, descricao, situacao)"
+          + " SELECT ids.id, input.valor, input.data_vencimento, input.data_pagamento,"
+          + " input.descricao, input.situacao"
+          + " FROM input JOIN ids USING (n)"
+          + " RETURNING id)"
+          + " SELECT id FROM inserted ORDER BY id";
+
+  @PersistenceContext private EntityManager entityManager;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ObjectMapper objectMapper;
+
+  @Autowired
+  public AccountRepositoryCustomImpl(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public Slice<Account> findSlice(Specification<Account> spec, Pageable pageable) {
+    CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+    CriteriaQuery<Account> query = criteriaBuilder.createQuery(Account.class);
+    Root<Account> root = query.from(Account.class);
+
+    Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+    if (predicate != null) {
+      query.where(predicate);
+    }
+    query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+    TypedQuery<Account> typedQuery = entityManager.createQuery(query);
+    if (pageable.isUnpaged()) {
+      return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+    }
+
+    typedQuery.setFirstResult((int) pageable.getOffset());
+    typedQuery.setMaxResults(pageable.getPageSize() + 1);
+    List<Account> content = typedQuery.getResultList();
+
+    boolean hasNext = content.size() > pageable.getPageSize();
+    return new SliceImpl<>(
+        hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+  }
+
+  /**
+   * Without filters the estimate is {@code pg_class.reltuples}, maintained by (auto)ANALYZE.
+   * With filters it is the row estimate of the planner for the equivalent query, read from
+   * {@code EXPLAIN}; neither touches the table rows.
+   */
+  @Override
+  public long estimateCount(String description, LocalDate dueDateStart, LocalDate dueDateEnd) {
+    StringBuilder sql = new StringBuilder("EXPLAIN (FORMAT JSON) SELECT 1 FROM contas WHERE true");
+    List<Object> args = new ArrayList<>();
+    appendFilters(sql, args, description, dueDateStart, dueDateEnd);
+
+    if (args.isEmpty()) {
+      Long reltuples =
+          jdbcTemplate.queryForObject(
+              "SELECT reltuples::bigint FROM pg_class WHERE oid = 'contas'::regclass", Long.class);
+      if (reltuples != null && reltuples >= 0) {
+        return reltuples;
+      }
+    }
+
+    String plan = jdbcTemplate.queryForObject(sql.toString(), String.class, args.toArray());
+    try {
+      JsonNode root = objectMapper.readTree(plan);
+      return root.path(0).path("Plan").path("Plan Rows").asLong();
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not read the query plan estimate", e);
+    }
+  }
+
+  @Override
+  public void streamFiltered(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      int fetchSize,
+      Consumer<Account> consumer) {
+    StringBuilder sql =
+        new StringBuilder(
+            "SELECT id, valor, data_vencimento, data_pagamento, descricao, situacao"
+                + " FROM contas WHERE true");
+    List<Object> args = new ArrayList<>();
+    appendFilters(sql, args, description, dueDateStart, dueDateEnd);
+    sql.append(" ORDER BY data_vencimento, id");
+
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+          statement.setFetchSize(fetchSize);
+          for (int i = 0; i < args.size(); i++) {
+            statement.setObject(i + 1, args.get(i));
+          }
+          return statement;
+        },
+        (RowCallbackHandler)
+            resultSet -> consumer.accept(mapAccount(resultSet, resultSet.getRow())));
+  }
+
+  /** Appends the list filters of {@link AccountRepository#filter} as SQL on {@code contas}. */
+  private static void appendFilters(
+      StringBuilder sql,
+      List<Object> args,
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd) {
+    if (description != null && !description.isBlank()) {
+      sql.append(" AND lower(descricao) LIKE ? ESCAPE '")
+          .append(AccountRepository.LIKE_ESCAPE)
+          .append("'");
+      args.add(AccountRepository.containsPattern(description));
+    }
+
+    if (dueDateStart != null) {
+      sql.append(" AND data_vencimento >= ?");
+      args.add(dueDateStart);
+    }
+
+    if (dueDateEnd != null) {
+      sql.append(" AND data_vencimento <= ?");
+      args.add(dueDateEnd);
+    }
+  }
+
+  @Override
+  public List<RankedAccount> search(String query, Float afterRank, Long afterId, int limit) {
+    if (afterId == null) {
+      return jdbcTemplate.query(searchSql(false), this::mapRankedAccount, query, limit);
+    }
+
+    return jdbcTemplate.query(
+        searchSql(true),
+        this::mapRankedAccount,
+        query,
+        afterRank,
+        afterRank,
+        afterId,
+        limit);
+  }
+
+  @Override
+  public Optional<Account> updateReturning(Long id, Account values) {
+    return jdbcTemplate
+        .query(
+            "UPDATE contas SET valor = ?, data_vencimento = ?, data_pagamento = ?, descricao = ?,"
+                + " situacao = ? WHERE id = ?"
+                + RETURNING,
+            this::mapAccount,
+            values.getAmount(),
+            values.getDueDate(),
+            values.getPaymentDate(),
+            values.getDescription(),
+            values.getStatus(),
+            id)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public Optional<Account> updateStatusReturning(Long id, String status) {
+    return jdbcTemplate
+        .query(
+            "UPDATE contas SET situacao = ? WHERE id = ?" + RETURNING, this::mapAccount, status, id)
+        .stream()
+        .findFirst();
+  }
+
+  @Override
+  public void insertAll(List<Account> accounts) {
+    if (accounts.isEmpty()) {
+      return;
+    }
+
+    int blocks =
+        (accounts.size() + Account.ID_ALLOCATION_SIZE - 1) / Account.ID_ALLOCATION_SIZE + 1;
+    List<Long> ids =
+        jdbcTemplate.query(
+            connection -> {
+              PreparedStatement statement = connection.prepareStatement(INSERT_ALL_SQL);
+              statement.setArray(1, array(connection, "numeric", accounts, Account::getAmount));
+              statement.setArray(2, array(connection, "date", accounts, Account::getDueDate));
+              statement.setArray(3, array(connection, "date", accounts, Account::getPaymentDate));
+              statement.setArray(4, array(connection, "text", accounts, Account::getDescription));
+              statement.setArray(5, array(connection, "text", accounts, Account::getStatus));
+              statement.setInt(6, blocks);
+              statement.setInt(7, Account.ID_ALLOCATION_SIZE);
+              return statement;
+            },
+            (resultSet, rowNum) -> resultSet.getLong(1));
+
+    for (int i = 0; i < accounts.size(); i++) {
+      accounts.get(i).setId(ids.get(i));
+    }
+  }
+
+  @Override
+  public List<Long> updateStatusWhereIdIn(
+      Collection<Long> ids, String status, LocalDate paymentDate) {
+    return jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement(
+                  "UPDATE contas SET situacao = ?,"
+                      + " data_pagamento = COALESCE(?::date, data_pagamento)"
+                      + " WHERE id = ANY (?) RETURNING id");
+          statement.setString(1, status);
+          statement.setObject(2, paymentDate, Types.DATE);
+          statement.setArray(3, connection.createArrayOf("bigint", ids.toArray()));
+          return statement;
+        },
+        (resultSet, rowNum) -> resultSet.getLong(1));
+  }
+
+  @Override
+  public List<Long> deleteWhereIdIn(Collection<Long> ids) {
+    return jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement =
+              connection.prepareStatement("DELETE FROM contas WHERE id = ANY (?) RETURNING id");
+          statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+          return statement;
+        },
+        (resultSet, rowNum) -> resultSet.getLong(1));
+  }
+
+  private static Array array(
+      Connection connection, String type, List<Account> accounts, Function<Account, ?> column)
+      throws SQLException {
+    return connection.createArrayOf(type, accounts.stream().map(column).toArray());
+  }
+
+  private RankedAccount mapRankedAccount(ResultSet resultSet, int rowNum) throws SQLException {
+    return new RankedAccount(mapAccount(resultSet, rowNum), resultSet.getFloat("rank"));
+  }
+
+  private Account mapAccount(ResultSet resultSet, int rowNum) throws SQLException {
+    Account account = new Account();
+    account.setId(resultSet.getLong("id"));
+    account.setAmount(resultSet.getBigDecimal("valor"));
+    account.setDueDate(resultSet.getObject("data_vencimento", LocalDate.class));
+    account.setPaymentDate(resultSet.getObject("data_pagamento", LocalDate.class));
+    account.setDescription(resultSet.getString("descricao"));
+    account.setStatus(resultSet.getString("situacao"));
+    return account;
+  }
+}
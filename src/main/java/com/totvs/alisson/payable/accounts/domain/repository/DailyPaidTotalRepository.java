@@ -0,0 +1,48 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.DailyPaidTotal;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Read access to {@code contas_pagas_diario}. The table is maintained only by the triggers on
+ * contas and by {@link #rebuild}, so no save or delete methods are exposed.
+ */
+@Repository
+public interface DailyPaidTotalRepository
+    extends org.springframework.data.repository.Repository<DailyPaidTotal, LocalDate> {
+
+  Optional<DailyPaidTotal> findById(LocalDate paymentDate);
+
+  long count();
+
+  @Query(
+      "SELECT SUM(d.total) FROM DailyPaidTotal d WHERE d.paymentDate BETWEEN :startDate AND :endDate")
+  BigDecimal findTotalPaidInPeriod(
+      @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+  /** Recomputes the rollup from contas and returns the number of days it now holds. */
+  @Transactional
+  @Query(value = "SELECT contas_pagas_diario_rebuild()", nativeQuery = true)
+  int rebuild();
+
+  @Query(
+      value =
+          "SELECT COALESCE(c.data_pagamento, d.data_pagamento) AS \"paymentDate\","
+              + " c.valor_total AS \"expectedTotal\", d.valor_total AS \"actualTotal\","
+              + " c.quantidade AS \"expectedCount\", d.quantidade AS \"actualCount\""
+              + " FROM (SELECT data_pagamento, SUM(valor) AS valor_total, COUNT(*) AS quantidade"
+              + "       FROM contas WHERE data_pagamento IS NOT NULL GROUP BY data_pagamento) c"
+              + " FULL JOIN contas_pagas_diario d ON d.data_pagamento = c.data_pagamento"
+              + " WHERE c.valor_total IS DISTINCT FROM d.valor_total"
+              + " OR c.quantidade IS DISTINCT FROM d.quantidade"
+              + " ORDER BY 1",
+      nativeQuery = true)
+  List<RollupMismatch> findMismatches();
+}
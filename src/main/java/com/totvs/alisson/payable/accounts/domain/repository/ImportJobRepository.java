@@ -0,0 +1,99 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.ImportJob;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, UUID> {
+
+  /** Jobs in one of {@code statuses} whose owner has not reported since {@code staleBefore}. */
+  @Query(
+      "SELECT j FROM ImportJob j WHERE j.status IN :statuses"
+          + " AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+  List<ImportJob> findStale(
+      @Param("statuses") Collection<String> statuses, @Param("staleBefore") Instant staleBefore);
+
+  /**
+   * Makes {@code owner} the owner of a stale job. Returns 0 when the job changed status or another
+   * node claimed it first.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.owner = :owner, j.heartbeatAt = :now WHERE j.id = :id"
+          + " AND j.status = :status AND (j.heartbeatAt IS NULL OR j.heartbeatAt < :staleBefore)")
+  int claim(
+      @Param("id") UUID id,
+      @Param("status") String status,
+      @Param("staleBefore") Instant staleBefore,
+      @Param("owner") String owner,
+      @Param("now") Instant now);
+
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.heartbeatAt = :now WHERE j.id IN :ids AND j.owner = :owner")
+  int heartbeat(
+      @Param("ids") Collection<UUID> ids, @Param("owner") String owner, @Param("now") Instant now);
+
+  /** Queues a job of {@code owner} once its upload is stored. Returns 0 when it lost the job. */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.status = 'QUEUED', j.heartbeatAt = :now"
+          + " WHERE j.id = :id AND j.owner = :owner AND j.status = 'UPLOADING'")
+  int queue(@Param("id") UUID id, @Param("owner") String owner, @Param("now") Instant now);
+
+  /**
+   * Starts a queued job owned by {@code owner}. Returns 0 when another node took it over, so it
+   * must not be run here.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.status = 'RUNNING', j.startedAt = :now, j.heartbeatAt = :now"
+          + " WHERE j.id = :id AND j.owner = :owner AND j.status = 'QUEUED'")
+  int start(@Param("id") UUID id, @Param("owner") String owner, @Param("now") Instant now);
+
+  /** Adds the rows of a chunk to a running job. Returns 0 when {@code owner} lost the job. */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.rowsProcessed = j.rowsProcessed + :processed,"
+          + " j.rowsSucceeded = j.rowsSucceeded + :succeeded,"
+          + " j.rowsFailed = j.rowsFailed + :failed, j.heartbeatAt = :now"
+          + " WHERE j.id = :id AND j.owner = :owner AND j.status = 'RUNNING'")
+  int addProgress(
+      @Param("id") UUID id,
+      @Param("owner") String owner,
+      @Param("processed") long processed,
+      @Param("succeeded") long succeeded,
+      @Param("failed") long failed,
+      @Param("now") Instant now);
+
+  /**
+   * Moves a job owned by {@code owner} from {@code from} to a final {@code status}. Returns 0 when
+   * the job changed status or another node took it over in the meantime.
+   */
+  @Transactional
+  @Modifying
+  @Query(
+      "UPDATE ImportJob j SET j.status = :status, j.errorMessage = :errorMessage,"
+          + " j.finishedAt = :now WHERE j.id = :id AND j.owner = :owner AND j.status = :from")
+  int finish(
+      @Param("id") UUID id,
+      @Param("owner") String owner,
+      @Param("from") String from,
+      @Param("status") String status,
+      @Param("errorMessage") String errorMessage,
+      @Param("now") Instant now);
+}
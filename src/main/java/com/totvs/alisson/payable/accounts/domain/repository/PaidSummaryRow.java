@@ -0,0 +1,22 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Aggregate of the accounts paid in a period, either for one status or, when {@link #getStatus()}
+ * is {@code null} and {@link #isOverall()} is {@code true}, for all of them.
+ */
+public interface PaidSummaryRow {
+
+  String getStatus();
+
+  boolean isOverall();
+
+  long getCount();
+
+  BigDecimal getTotal();
+
+  BigDecimal getMin();
+
+  BigDecimal getMax();
+}
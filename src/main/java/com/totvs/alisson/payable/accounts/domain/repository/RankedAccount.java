@@ -0,0 +1,14 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** An account found by full-text search, with its {@code ts_rank} for the query. */
+@Getter
+@AllArgsConstructor
+public class RankedAccount {
+
+  private final Account account;
+  private final float rank;
+}
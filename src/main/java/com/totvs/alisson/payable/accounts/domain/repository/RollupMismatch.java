@@ -0,0 +1,18 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** A day on which the contas_pagas_diario rollup disagrees with the contas table. */
+public interface RollupMismatch {
+
+  LocalDate getPaymentDate();
+
+  BigDecimal getExpectedTotal();
+
+  BigDecimal getActualTotal();
+
+  Long getExpectedCount();
+
+  Long getActualCount();
+}
@@ -1,12 +1,25 @@
 package com.totvs.alisson.payable.accounts.domain.repository;
 
 import com.totvs.alisson.payable.accounts.domain.entity.User;
+import java.time.Instant;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
   User findByUsername(String username);
 
   boolean existsByUsername(String username);
+
+  UserTokenStatus findTokenStatusByUsername(String username);
+
+  /** Makes every token issued to the user before {@code revokedAt} invalid. */
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.tokensRevokedAt = :revokedAt WHERE u.username = :username")
+  int revokeTokens(@Param("username") String username, @Param("revokedAt") Instant revokedAt);
 }
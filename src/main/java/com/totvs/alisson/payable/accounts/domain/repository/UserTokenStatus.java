@@ -0,0 +1,11 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import java.time.Instant;
+
+/** The columns of a user that decide whether its tokens are still accepted. */
+public interface UserTokenStatus {
+
+  boolean isEnabled();
+
+  Instant getTokensRevokedAt();
+}
@@ -0,0 +1,247 @@
+package com.totvs.alisson.payable.accounts.domain.service;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.factory.AccountFactory;
+import com.totvs.alisson.payable.accounts.domain.repository.AccountRepository;
+import com.totvs.alisson.payable.accounts.domain.validation.AccountValidator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Validates and saves the records of CSV imports. Owns the validation and writer pools and the
+ * {@code accounts.import.*} meters, so the rest of {@link AccountService} does not depend on them.
+ */
+@Service
+public class AccountCsvImporter {
+
+  static final String IMPORT_ROWS = "accounts.import.rows";
+  static final String IMPORT_THROUGHPUT = "accounts.import.throughput";
+
+  private final AccountRepository repository;
+  private final AccountValidator validator;
+  private final ImportProperties importProperties;
+  private final ForkJoinPool validationPool;
+  private final ExecutorService writerPool;
+  private final Counter importedRows;
+  private final Counter invalidRows;
+  private final Counter failedRows;
+  private final DistributionSummary importThroughput;
+
+  @Autowired
+  public AccountCsvImporter(
+      AccountRepository repository,
+      AccountValidator validator,
+      ImportProperties importProperties,
+      Environment environment,
+      MeterRegistry registry) {
+    this.repository = repository;
+    this.validator = validator;
+    this.importProperties = importProperties;
+    this.validationPool = new ForkJoinPool(importProperties.getParallelism());
+
+    // Validation is CPU-bound and stays on platform threads; writers mostly wait on JDBC.
+    this.writerPool =
+        Executors.newFixedThreadPool(importProperties.getWriters(), writerThreads(environment));
+    this.importedRows = Counter.builder(IMPORT_ROWS).tag("outcome", "imported").register(registry);
+    this.invalidRows = Counter.builder(IMPORT_ROWS).tag("outcome", "invalid").register(registry);
+    this.failedRows = Counter.builder(IMPORT_ROWS).tag("outcome", "failed").register(registry);
+    this.importThroughput =
+        DistributionSummary.builder(IMPORT_THROUGHPUT).baseUnit("rows/s").register(registry);
+  }
+
+  /**
+   * Imports a chunk of CSV records. Records are validated in parallel on {@code
+   * accounts.import.parallelism} threads, then the valid ones are saved in batches of {@code
+   * accounts.import.batch-size} by up to {@code accounts.import.writers} concurrent writers. The
+   * outcome is stored on each record, so the returned list keeps the original row order.
+   */
+  public List<AccountCsvRecord> saveAll(List<AccountCsvRecord> records) {
+    long start = System.nanoTime();
+    List<Account> accounts = prepareAll(records);
+    List<Future<?>> writes = new ArrayList<>();
+    List<AccountCsvRecord> batchRecords = new ArrayList<>();
+    List<Account> batchAccounts = new ArrayList<>();
+
+    for (int i = 0; i < records.size(); i++) {
+      Account account = accounts.get(i);
+      if (account != null) {
+        batchRecords.add(records.get(i));
+        batchAccounts.add(account);
+      }
+
+      if (batchAccounts.size() >= importProperties.getBatchSize()) {
+        writes.add(submitBatch(batchRecords, batchAccounts));
+        batchRecords = new ArrayList<>();
+        batchAccounts = new ArrayList<>();
+      }
+    }
+
+    if (!batchAccounts.isEmpty()) {
+      writes.add(submitBatch(batchRecords, batchAccounts));
+    }
+
+    writes.forEach(this::await);
+    recordImport(records, accounts, System.nanoTime() - start);
+    return records;
+  }
+
+  /**
+   * Counts the rows of a chunk by outcome: imported, rejected by validation, or failed to save.
+   * The chunk's rows per second go to {@code accounts.import.throughput}.
+   */
+  private void recordImport(
+      List<AccountCsvRecord> records, List<Account> accounts, long elapsedNanos) {
+    int imported = 0;
+    int invalid = 0;
+    for (int i = 0; i < records.size(); i++) {
+      if ("SUCCESS".equals(records.get(i).getImportStatus())) {
+        imported++;
+      } else if (accounts.get(i) == null) {
+        invalid++;
+      }
+    }
+    importedRows.increment(imported);
+    invalidRows.increment(invalid);
+    failedRows.increment(records.size() - imported - invalid);
+    if (elapsedNanos > 0) {
+      importThroughput.record(records.size() * 1e9 / elapsedNanos);
+    }
+  }
+
+  /**
+   * Runs {@link #prepare} over all records in parallel. The result is aligned with {@code records}
+   * and holds {@code null} for the records that cannot be imported.
+   */
+  public List<Account> prepareAll(List<AccountCsvRecord> records) {
+    Account[] accounts = new Account[records.size()];
+    await(
+        validationPool.submit(
+            () ->
+                IntStream.range(0, records.size())
+                    .parallel()
+                    .forEach(i -> accounts[i] = prepare(records.get(i)))));
+    return Arrays.asList(accounts);
+  }
+
+  private Future<?> submitBatch(List<AccountCsvRecord> records, List<Account> accounts) {
+    return writerPool.submit(() -> persist(records, accounts));
+  }
+
+  private void await(Future<?> future) {
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while importing accounts", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to import accounts", e.getCause());
+    }
+  }
+
+  /**
+   * Validates a CSV record and builds the account it describes. Returns {@code null} and flags
+   * the record as {@code ERROR} when it cannot be imported.
+   */
+  public Account prepare(AccountCsvRecord record) {
+    if ("ERROR".equals(record.getImportStatus())) {
+      return null;
+    }
+
+    try {
+      AccountRequest accountRequest = createAccountRequestFromRecord(record);
+      List<String> validationErrors = validator.validate(accountRequest);
+
+      if (!validationErrors.isEmpty()) {
+        record.setImportStatus("ERROR");
+        record.setErrorMessage(String.join(". ", validationErrors));
+        return null;
+      }
+
+      return AccountFactory.createFrom(accountRequest);
+    } catch (Exception e) {
+      record.setImportStatus("ERROR");
+      record.setErrorMessage("An unexpected error occurred: " + e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Saves {@code accounts} in a single transaction so Hibernate sends them as one JDBC batch. If
+   * the batch fails, the accounts are saved one by one so the failure is reported only on the
+   * records that caused it.
+   */
+  private void persist(List<AccountCsvRecord> records, List<Account> accounts) {
+    try {
+      repository.saveAll(accounts);
+      records.forEach(this::markImported);
+    } catch (Exception batchFailure) {
+      for (int i = 0; i < accounts.size(); i++) {
+        Account account = accounts.get(i);
+        AccountCsvRecord record = records.get(i);
+        try {
+          account.setId(null);
+          repository.save(account);
+          markImported(record);
+        } catch (Exception e) {
+          record.setImportStatus("ERROR");
+          record.setErrorMessage("An unexpected error occurred: " + e.getMessage());
+        }
+      }
+    }
+  }
+
+  private void markImported(AccountCsvRecord record) {
+    record.setImportStatus("SUCCESS");
+    record.setErrorMessage(null);
+  }
+
+  private AccountRequest createAccountRequestFromRecord(AccountCsvRecord record) {
+    AccountRequest accountRequest = new AccountRequest();
+    accountRequest.setAmount(record.getAmount());
+    accountRequest.setDueDate(record.getDueDate());
+    accountRequest.setPaymentDate(record.getPaymentDate());
+    accountRequest.setDescription(record.getDescription());
+    accountRequest.setStatus(record.getStatus());
+    return accountRequest;
+  }
+
+  private static ThreadFactory writerThreads(Environment environment) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      return new VirtualThreadTaskExecutor("import-writer-").getVirtualThreadFactory();
+    }
+    AtomicInteger writerCount = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, "import-writer-" + writerCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    validationPool.shutdown();
+    writerPool.shutdown();
+  }
+}
@@ -1,45 +1,143 @@
 package com.totvs.alisson.payable.accounts.domain.service;
 
-import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCursor;
 import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.application.dto.BulkItemResult;
+import com.totvs.alisson.payable.accounts.application.dto.CursorPage;
+import com.totvs.alisson.payable.accounts.application.dto.SearchCursor;
+import com.totvs.alisson.payable.accounts.application.dto.SlicePage;
+import com.totvs.alisson.payable.accounts.config.BulkProperties;
+import com.totvs.alisson.payable.accounts.config.ListingProperties;
 import com.totvs.alisson.payable.accounts.domain.entity.Account;
 import com.totvs.alisson.payable.accounts.domain.enums.AccountStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.BulkItemStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.TotalModeEnum;
 import com.totvs.alisson.payable.accounts.domain.exception.AccountNotFoundException;
+import com.totvs.alisson.payable.accounts.domain.exception.BulkLimitExceededException;
+import com.totvs.alisson.payable.accounts.domain.exception.InvalidAccountStatusException;
 import com.totvs.alisson.payable.accounts.domain.factory.AccountFactory;
 import com.totvs.alisson.payable.accounts.domain.repository.AccountRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.DailyPaidTotalRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.PaidSummaryRow;
+import com.totvs.alisson.payable.accounts.domain.repository.RankedAccount;
+import com.totvs.alisson.payable.accounts.domain.repository.RollupMismatch;
 import com.totvs.alisson.payable.accounts.domain.validation.AccountValidator;
+import com.totvs.alisson.payable.accounts.infrastructure.cache.AccountCacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+/** Every public method is timed as {@code accounts.service}, tagged with its name. */
 @Service
+@Timed("accounts.service")
 public class AccountService {
 
+  /** Accounts by id, configured through spring.cache in application.yml. */
+  public static final String ACCOUNT_CACHE = "accounts";
+
   private final AccountRepository repository;
+  private final DailyPaidTotalRepository dailyPaidTotalRepository;
   private final AccountValidator validator;
+  private final BulkProperties bulkProperties;
+  private final Cache<String, Long> totalCache;
+  private final org.springframework.cache.Cache accountCache;
+  private final AccountCacheInvalidationBus invalidationBus;
 
   @Autowired
-  public AccountService(AccountRepository repository, AccountValidator validator) {
+  public AccountService(
+      AccountRepository repository,
+      DailyPaidTotalRepository dailyPaidTotalRepository,
+      AccountValidator validator,
+      ListingProperties listingProperties,
+      BulkProperties bulkProperties,
+      CacheManager cacheManager,
+      AccountCacheInvalidationBus invalidationBus) {
     this.repository = repository;
+    this.dailyPaidTotalRepository = dailyPaidTotalRepository;
     this.validator = validator;
+    this.bulkProperties = bulkProperties;
+    this.totalCache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(listingProperties.getTotalCacheTtl())
+            .maximumSize(listingProperties.getTotalCacheSize())
+            .build();
+    this.accountCache = cacheManager.getCache(ACCOUNT_CACHE);
+    this.invalidationBus = invalidationBus;
   }
 
   public Account create(AccountRequest request) {
     Account account = AccountFactory.createFrom(request);
-    return repository.save(account);
+    return cache(repository.save(account));
   }
 
+  /** Single {@code UPDATE ... RETURNING}; the account is not loaded beforehand. */
   public Account update(Long id, AccountRequest request) {
-    getById(id);
-    Account updatedAccount = AccountFactory.createFrom(request);
-    updatedAccount.setId(id);
-    return repository.save(updatedAccount);
+    Account values = AccountFactory.createFrom(request);
+    return cache(repository.updateReturning(id, values).orElseThrow(() -> notFound(id)));
+  }
+
+  /**
+   * Validates every request, then inserts the valid ones with one statement. Returns one result
+   * per request, in request order. New ids cannot be cached anywhere yet, so nothing is evicted.
+   */
+  public List<BulkItemResult> createAll(List<AccountRequest> requests) {
+    checkBulkSize(requests.size());
+
+    List<BulkItemResult> results = new ArrayList<>(Collections.nCopies(requests.size(), null));
+    List<Integer> indexes = new ArrayList<>();
+    List<Account> accounts = new ArrayList<>();
+
+    for (int i = 0; i < requests.size(); i++) {
+      AccountRequest request = requests.get(i);
+      List<String> errors =
+          request == null ? List.of("Account is required") : validator.validate(request);
+      if (!errors.isEmpty()) {
+        results.set(i, failure(i, null, BulkItemStatusEnum.INVALID, String.join(". ", errors)));
+        continue;
+      }
+
+      try {
+        accounts.add(AccountFactory.createFrom(request));
+        indexes.add(i);
+      } catch (InvalidAccountStatusException e) {
+        results.set(i, failure(i, null, BulkItemStatusEnum.INVALID, e.getMessage()));
+      }
+    }
+
+    try {
+      repository.insertAll(accounts);
+      for (int i = 0; i < accounts.size(); i++) {
+        int index = indexes.get(i);
+        results.set(index, success(index, accounts.get(i).getId(), BulkItemStatusEnum.CREATED));
+      }
+    } catch (DataAccessException e) {
+      String message = "An unexpected error occurred: " + e.getMostSpecificCause().getMessage();
+      for (int index : indexes) {
+        results.set(index, failure(index, null, BulkItemStatusEnum.FAILED, message));
+      }
+    }
+
+    return results;
   }
 
   public Page<Account> findAll(
@@ -47,61 +145,230 @@ public class AccountService {
     return repository.findAllFiltered(description, dueDateStart, dueDateEnd, pageable);
   }
 
+  /**
+   * Lists a page without the per-request COUNT: one extra row is fetched to tell whether there is
+   * a next page. A total is only computed when asked for, either as an exact count reused for
+   * {@code accounts.listing.total-cache-ttl} or as a planner estimate, which may be off by a few
+   * percent until the table is analyzed again.
+   */
+  public SlicePage<Account> findSlice(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      Pageable pageable,
+      TotalModeEnum totalMode) {
+    Slice<Account> slice =
+        repository.findSliceFiltered(description, dueDateStart, dueDateEnd, pageable);
+    Long total =
+        switch (totalMode) {
+          case NONE -> null;
+          case CACHED ->
+              totalCache.get(
+                  totalKey(totalMode, description, dueDateStart, dueDateEnd),
+                  key -> repository.countFiltered(description, dueDateStart, dueDateEnd));
+          case ESTIMATED ->
+              totalCache.get(
+                  totalKey(totalMode, description, dueDateStart, dueDateEnd),
+                  key -> repository.estimateCount(description, dueDateStart, dueDateEnd));
+        };
+
+    return new SlicePage<>(
+        slice.getContent(),
+        slice.getNumber(),
+        slice.getSize(),
+        slice.hasNext(),
+        total,
+        totalMode.name());
+  }
+
+  private String totalKey(
+      TotalModeEnum totalMode, String description, LocalDate dueDateStart, LocalDate dueDateEnd) {
+    String normalizedDescription =
+        description == null || description.isBlank() ? "" : description.toLowerCase();
+    return totalMode + "|" + normalizedDescription + "|" + dueDateStart + "|" + dueDateEnd;
+  }
+
+  public CursorPage<Account> findAllByCursor(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      AccountCursor cursor,
+      int size,
+      boolean includeTotal) {
+    List<Account> accounts =
+        repository.findAllFilteredAfter(
+            description,
+            dueDateStart,
+            dueDateEnd,
+            cursor != null ? cursor.getDueDate() : null,
+            cursor != null ? cursor.getId() : null,
+            size + 1);
+
+    boolean hasNext = accounts.size() > size;
+    List<Account> content = hasNext ? accounts.subList(0, size) : accounts;
+    String nextCursor =
+        hasNext ? AccountCursor.after(content.get(content.size() - 1)).encode() : null;
+    Long total =
+        includeTotal ? repository.countFiltered(description, dueDateStart, dueDateEnd) : null;
+
+    return new CursorPage<>(content, size, hasNext, nextCursor, total);
+  }
+
+  /**
+   * Passes every account matching the list filters to {@code consumer} as it is read. The read-only
+   * transaction is what lets the driver fetch {@code fetchSize} rows at a time from a cursor
+   * instead of loading the whole result.
+   */
+  @Transactional(readOnly = true)
+  public void exportFiltered(
+      String description,
+      LocalDate dueDateStart,
+      LocalDate dueDateEnd,
+      int fetchSize,
+      Consumer<Account> consumer) {
+    repository.streamFiltered(description, dueDateStart, dueDateEnd, fetchSize, consumer);
+  }
+
+  /** Full-text search over the descriptions, best matches first, one cursor page at a time. */
+  public CursorPage<Account> search(String query, SearchCursor cursor, int size) {
+    if (query == null || query.isBlank()) {
+      return new CursorPage<>(List.of(), size, false, null, null);
+    }
+
+    List<RankedAccount> accounts =
+        repository.search(
+            query,
+            cursor != null ? cursor.getRank() : null,
+            cursor != null ? cursor.getId() : null,
+            size + 1);
+
+    boolean hasNext = accounts.size() > size;
+    List<RankedAccount> content = hasNext ? accounts.subList(0, size) : accounts;
+    String nextCursor =
+        hasNext ? SearchCursor.after(content.get(content.size() - 1)).encode() : null;
+
+    return new CursorPage<>(
+        content.stream().map(RankedAccount::getAccount).toList(), size, hasNext, nextCursor, null);
+  }
+
+  /**
+   * Reads through the account cache. Concurrent misses for the same id share one query, and a
+   * write to that id waits for the load to finish, so it cannot be overwritten by an older value.
+   * The cache keeps its own instance and callers get a copy they are free to change.
+   */
   public Account getById(Long id) {
-    return repository.findById(id).orElseThrow(() -> new AccountNotFoundException(id));
+    try {
+      Account account =
+          accountCache.get(
+              id,
+              () -> repository.findById(id).orElseThrow(() -> new AccountNotFoundException(id)));
+      return AccountFactory.copyOf(account);
+    } catch (org.springframework.cache.Cache.ValueRetrievalException e) {
+      if (e.getCause() instanceof AccountNotFoundException notFound) {
+        throw notFound;
+      }
+      throw e;
+    }
   }
 
   public Account updateStatus(Long id, AccountStatusEnum status) {
-    Account account = getById(id);
-    account.setStatus(status.name());
-    return repository.save(account);
+    return cache(
+        repository.updateStatusReturning(id, status.name()).orElseThrow(() -> notFound(id)));
   }
 
-  public double getTotalPaid(LocalDate startDate, LocalDate endDate) {
-    return Optional.ofNullable(repository.findTotalPaidInPeriod(startDate, endDate)).orElse(0.0);
+  /**
+   * Changes the status of every account in {@code ids} with one statement, also setting the
+   * payment date when it is given. The affected ids are evicted here and on the other replicas.
+   */
+  public List<BulkItemResult> updateStatusAll(
+      List<Long> ids, AccountStatusEnum status, LocalDate paymentDate) {
+    checkBulkSize(ids.size());
+    Set<Long> updated =
+        new HashSet<>(
+            repository.updateStatusWhereIdIn(new LinkedHashSet<>(ids), status.name(), paymentDate));
+    evict(updated);
+    return results(ids, updated, BulkItemStatusEnum.UPDATED);
   }
 
-  public void delete(Long id) {
-    getById(id);
-    repository.deleteById(id);
+  /** Deletes every account in {@code ids} with one statement and evicts them everywhere. */
+  public List<BulkItemResult> deleteAll(List<Long> ids) {
+    checkBulkSize(ids.size());
+    Set<Long> deleted = new HashSet<>(repository.deleteWhereIdIn(new LinkedHashSet<>(ids)));
+    evict(deleted);
+    return results(ids, deleted, BulkItemStatusEnum.DELETED);
   }
 
-  public List<AccountCsvRecord> saveAllFromCsv(List<AccountCsvRecord> records) {
-    List<AccountCsvRecord> processedRecords = new ArrayList<>();
+  private void checkBulkSize(int size) {
+    if (size > bulkProperties.getMaxItems()) {
+      throw new BulkLimitExceededException(size, bulkProperties.getMaxItems());
+    }
+  }
 
-    for (AccountCsvRecord record : records) {
-      try {
-        AccountRequest accountRequest = createAccountRequestFromRecord(record);
-        List<String> validationErrors = validator.validate(accountRequest);
-
-        if (!validationErrors.isEmpty()) {
-          record.setImportStatus("ERROR");
-          record.setErrorMessage(String.join(". ", validationErrors));
-        } else {
-          Account account = AccountFactory.createFrom(accountRequest);
-          repository.save(account);
-          record.setImportStatus("SUCCESS");
-          record.setErrorMessage(null);
-        }
-
-      } catch (Exception e) {
-        record.setImportStatus("ERROR");
-        record.setErrorMessage("An unexpected error occurred: " + e.getMessage());
-      }
+  private void evict(Collection<Long> ids) {
+    if (!ids.isEmpty()) {
+      ids.forEach(accountCache::evict);
+      invalidationBus.publish(ids);
+    }
+  }
 
-      processedRecords.add(record);
+  private List<BulkItemResult> results(
+      List<Long> ids, Set<Long> affected, BulkItemStatusEnum status) {
+    List<BulkItemResult> results = new ArrayList<>(ids.size());
+    for (int i = 0; i < ids.size(); i++) {
+      Long id = ids.get(i);
+      results.add(
+          affected.contains(id)
+              ? success(i, id, status)
+              : failure(i, id, BulkItemStatusEnum.NOT_FOUND, "Account not found"));
     }
+    return results;
+  }
 
-    return processedRecords;
+  private BulkItemResult success(int index, Long id, BulkItemStatusEnum status) {
+    return new BulkItemResult(index, id, status.name(), null);
   }
 
-  private AccountRequest createAccountRequestFromRecord(AccountCsvRecord record) {
-    AccountRequest accountRequest = new AccountRequest();
-    accountRequest.setAmount(record.getAmount());
-    accountRequest.setDueDate(record.getDueDate());
-    accountRequest.setPaymentDate(record.getPaymentDate());
-    accountRequest.setDescription(record.getDescription());
-    accountRequest.setStatus(record.getStatus());
-    return accountRequest;
+  private BulkItemResult failure(int index, Long id, BulkItemStatusEnum status, String message) {
+    return new BulkItemResult(index, id, status.name(), message);
+  }
+
+  public BigDecimal getTotalPaid(LocalDate startDate, LocalDate endDate) {
+    return Optional.ofNullable(dailyPaidTotalRepository.findTotalPaidInPeriod(startDate, endDate))
+        .orElse(BigDecimal.ZERO);
+  }
+
+  public List<PaidSummaryRow> getPaidSummary(LocalDate startDate, LocalDate endDate) {
+    return repository.summarizePaidInPeriod(startDate, endDate);
+  }
+
+  public int rebuildPaidTotals() {
+    return dailyPaidTotalRepository.rebuild();
+  }
+
+  public List<RollupMismatch> checkPaidTotals() {
+    return dailyPaidTotalRepository.findMismatches();
+  }
+
+  public void delete(Long id) {
+    if (repository.deleteAccount(id) == 0) {
+      throw notFound(id);
+    }
+    accountCache.evict(id);
+    invalidationBus.publish(List.of(id));
+  }
+
+  /** The account is gone, so drop any entry another replica's delete may have left behind. */
+  private AccountNotFoundException notFound(Long id) {
+    accountCache.evict(id);
+    return new AccountNotFoundException(id);
+  }
+
+  /** Refreshes the local cache entry and has the other replicas drop theirs. */
+  private Account cache(Account account) {
+    if (account.getId() != null) {
+      accountCache.put(account.getId(), AccountFactory.copyOf(account));
+      invalidationBus.publish(List.of(account.getId()));
+    }
+    return account;
   }
 }
@@ -0,0 +1,172 @@
+package com.totvs.alisson.payable.accounts.infrastructure.cache;
+
+import com.totvs.alisson.payable.accounts.config.AccountCacheProperties;
+import com.totvs.alisson.payable.accounts.domain.service.AccountService;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the account caches of all replicas coherent. Writers publish the changed ids with {@code
+ * pg_notify}; every replica LISTENs on the same channel on a dedicated connection and evicts
+ * those ids. Each payload starts with the id of the sending node, which already refreshed its own
+ * cache and ignores it.
+ *
+ * <p>NOTIFY is not delivered to a node that is not listening, so whenever the listener
+ * (re)connects the local cache is cleared instead of trying to catch up.
+ */
+@Component
+public class AccountCacheInvalidationBus implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountCacheInvalidationBus.class);
+
+  // NOTIFY payloads must stay under 8000 bytes. An id takes at most 20 bytes with its comma, so
+  // 300 of them plus the node id always fit.
+  private static final int IDS_PER_NOTIFICATION = 300;
+
+  private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final JdbcConnectionDetails connectionDetails;
+  private final AccountCacheProperties.Invalidation properties;
+  private final Cache accountCache;
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private volatile boolean running;
+  private Thread listener;
+
+  @Autowired
+  public AccountCacheInvalidationBus(
+      JdbcTemplate jdbcTemplate,
+      JdbcConnectionDetails connectionDetails,
+      AccountCacheProperties accountCacheProperties,
+      CacheManager cacheManager) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.connectionDetails = connectionDetails;
+    this.properties = accountCacheProperties.getInvalidation();
+    this.accountCache = cacheManager.getCache(AccountService.ACCOUNT_CACHE);
+  }
+
+  /**
+   * Tells the other replicas to evict {@code ids}. A failure is only logged: the write it follows
+   * has already been committed, and the other replicas still drop the entries when they expire.
+   */
+  public void publish(Collection<Long> ids) {
+    if (!properties.isEnabled() || ids.isEmpty()) {
+      return;
+    }
+
+    List<Long> idList = List.copyOf(ids);
+    for (int from = 0; from < idList.size(); from += IDS_PER_NOTIFICATION) {
+      List<Long> group = idList.subList(from, Math.min(from + IDS_PER_NOTIFICATION, idList.size()));
+      String payload =
+          nodeId + ":" + group.stream().map(String::valueOf).collect(Collectors.joining(","));
+      try {
+        jdbcTemplate.query(
+            "SELECT pg_notify(?, ?)", resultSet -> null, properties.getChannel(), payload);
+      } catch (DataAccessException e) {
+        log.warn("Could not publish the invalidation of {} accounts", group.size(), e);
+      }
+    }
+  }
+
+  void handle(String payload) {
+    int separator = payload.indexOf(':');
+    if (separator < 0 || payload.substring(0, separator).equals(nodeId)) {
+      return;
+    }
+
+    for (String id : payload.substring(separator + 1).split(",")) {
+      accountCache.evict(Long.valueOf(id));
+    }
+  }
+
+  private void listen() {
+    while (running) {
+      try (Connection connection =
+          DriverManager.getConnection(
+              connectionDetails.getJdbcUrl(),
+              connectionDetails.getUsername(),
+              connectionDetails.getPassword())) {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN \"" + properties.getChannel() + "\"");
+        }
+        accountCache.clear();
+
+        while (running) {
+          PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+          if (notifications != null) {
+            for (PGNotification notification : notifications) {
+              handle(notification.getParameter());
+            }
+          }
+        }
+      } catch (SQLException | RuntimeException e) {
+        if (running) {
+          log.warn(
+              "Account cache invalidation listener failed, reconnecting in {}",
+              properties.getReconnectDelay(),
+              e);
+          sleep();
+        }
+      }
+    }
+  }
+
+  private void sleep() {
+    try {
+      Thread.sleep(properties.getReconnectDelay().toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      running = false;
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!properties.isEnabled()) {
+      return;
+    }
+
+    running = true;
+    listener = new Thread(this::listen, "account-cache-listener");
+    listener.setDaemon(true);
+    listener.start();
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (listener != null) {
+      listener.interrupt();
+      try {
+        listener.join(2L * POLL_TIMEOUT_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+}
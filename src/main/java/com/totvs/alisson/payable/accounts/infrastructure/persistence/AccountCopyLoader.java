@@ -0,0 +1,126 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import javax.sql.DataSource;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads accounts into {@code contas} with PostgreSQL {@code COPY FROM STDIN}, bypassing the ORM.
+ *
+ * <p>Ids are reserved from {@code contas_id_seq} with the same pooled semantics Hibernate uses
+ * (each {@code nextval} is the upper bound of a block of {@link Account#ID_ALLOCATION_SIZE} ids),
+ * so rows loaded here never collide with ids handed out by JPA on other nodes. Each call is a
+ * single COPY statement and is therefore all-or-nothing.
+ */
+@Component
+public class AccountCopyLoader {
+
+  private static final String COPY_SQL =
+      "COPY contas (id, valor, data_vencimento, data_pagamento, descricao, situacao)"
+          + " FROM STDIN WITH (FORMAT csv)";
+
+  private static final String RESERVE_IDS_SQL =
+      "SELECT nextval('contas_id_seq') FROM generate_series(1, ?)";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final DataSource dataSource;
+
+  @Autowired
+  public AccountCopyLoader(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  public void copy(List<Account> accounts) throws SQLException {
+    if (accounts.isEmpty()) {
+      return;
+    }
+
+    try (Connection connection = dataSource.getConnection()) {
+      assignIds(connection, accounts);
+
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        StringBuilder buffer = new StringBuilder(BUFFER_SIZE);
+        for (Account account : accounts) {
+          appendRow(buffer, account);
+          if (buffer.length() >= BUFFER_SIZE) {
+            write(copyIn, buffer);
+          }
+        }
+        write(copyIn, buffer);
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+    } catch (SQLException e) {
+      accounts.forEach(account -> account.setId(null));
+      throw e;
+    }
+  }
+
+  private void assignIds(Connection connection, List<Account> accounts) throws SQLException {
+    int index = 0;
+
+    try (PreparedStatement statement = connection.prepareStatement(RESERVE_IDS_SQL)) {
+      // A block can come back short when the sequence is still at its start value.
+      while (index < accounts.size()) {
+        int remaining = accounts.size() - index;
+        statement.setInt(
+            1, (remaining + Account.ID_ALLOCATION_SIZE - 1) / Account.ID_ALLOCATION_SIZE);
+        try (ResultSet resultSet = statement.executeQuery()) {
+          while (resultSet.next() && index < accounts.size()) {
+            long hi = resultSet.getLong(1);
+            for (long id = Math.max(1, hi - Account.ID_ALLOCATION_SIZE + 1);
+                id <= hi && index < accounts.size();
+                id++) {
+              accounts.get(index++).setId(id);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  private void appendRow(StringBuilder buffer, Account account) {
+    buffer
+        .append(account.getId())
+        .append(',')
+        .append(account.getAmount().toPlainString())
+        .append(',')
+        .append(account.getDueDate())
+        .append(',');
+    if (account.getPaymentDate() != null) {
+      buffer.append(account.getPaymentDate());
+    }
+    buffer.append(',');
+    appendQuoted(buffer, account.getDescription());
+    buffer.append(',');
+    appendQuoted(buffer, account.getStatus());
+    buffer.append('\n');
+  }
+
+  private void appendQuoted(StringBuilder buffer, String value) {
+    buffer.append('"').append(value.replace("\"", "\"\"")).append('"');
+  }
+
+  private void write(CopyIn copyIn, StringBuilder buffer) throws SQLException {
+    if (buffer.isEmpty()) {
+      return;
+    }
+    byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+    copyIn.writeToCopy(bytes, 0, bytes.length);
+    buffer.setLength(0);
+  }
+}
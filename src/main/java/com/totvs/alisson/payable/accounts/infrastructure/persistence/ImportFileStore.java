@@ -0,0 +1,191 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.postgresql.PGConnection;
+import org.postgresql.largeobject.LargeObject;
+import org.postgresql.largeobject.LargeObjectManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the upload and the result file of import jobs as PostgreSQL large objects referenced from
+ * {@code importacoes}, so any node can run a job or serve its result. Large objects are streamed
+ * in and out and never held in memory. They can only be used inside a transaction, so reads and
+ * deletes run in their own, and writes commit every {@code accounts.import.jobs.file-chunk-size}
+ * bytes so a large upload never keeps one transaction open for the whole copy.
+ */
+@Component
+public class ImportFileStore {
+
+  public enum File {
+    INPUT("arquivo_entrada"),
+    RESULT("arquivo_resultado");
+
+    private final String column;
+
+    File(String column) {
+      this.column = column;
+    }
+  }
+
+  private final JdbcTemplate jdbcTemplate;
+  private final long chunkSize;
+
+  @Autowired
+  public ImportFileStore(JdbcTemplate jdbcTemplate, ImportProperties importProperties) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.chunkSize = importProperties.getJobs().getFileChunkSize().toBytes();
+  }
+
+  /**
+   * Stores {@code content} as {@code file} of the job, replacing what was stored before. The new
+   * large object is referenced from the job in the first transaction, so deleting the file also
+   * removes a copy that was interrupted halfway.
+   */
+  public void store(UUID jobId, File file, InputStream content) throws IOException {
+    long oid =
+        inTransaction(
+            connection -> {
+              unlink(connection, jobId, file);
+              long created = manager(connection).createLO(LargeObjectManager.READWRITE);
+              try (PreparedStatement statement =
+                  connection.prepareStatement(
+                      "UPDATE importacoes SET " + file.column + " = ? WHERE id = ?")) {
+                statement.setLong(1, created);
+                statement.setObject(2, jobId);
+                statement.executeUpdate();
+              }
+              return created;
+            });
+
+    long written = 0;
+    long copied;
+    do {
+      long offset = written;
+      copied =
+          inTransaction(
+              connection -> {
+                try (LargeObject object = manager(connection).open(oid, LargeObjectManager.WRITE)) {
+                  object.seek64(offset, LargeObject.SEEK_SET);
+                  try (OutputStream output = object.getOutputStream()) {
+                    return copy(content, output, chunkSize);
+                  }
+                }
+              });
+      written += copied;
+    } while (copied == chunkSize);
+  }
+
+  /** Copies {@code file} of the job to {@code output}. Returns false if it is not stored. */
+  public boolean copy(UUID jobId, File file, OutputStream output) throws IOException {
+    return inTransaction(
+        connection -> {
+          Long oid = oid(connection, jobId, file, false);
+          if (oid == null) {
+            return false;
+          }
+          try (LargeObject object = manager(connection).open(oid, LargeObjectManager.READ);
+              InputStream input = object.getInputStream()) {
+            input.transferTo(output);
+          }
+          return true;
+        });
+  }
+
+  public void delete(UUID jobId, File file) throws IOException {
+    inTransaction(
+        connection -> {
+          unlink(connection, jobId, file);
+          return null;
+        });
+  }
+
+  private void unlink(Connection connection, UUID jobId, File file) throws SQLException {
+    Long oid = oid(connection, jobId, file, true);
+    if (oid == null) {
+      return;
+    }
+    manager(connection).delete(oid);
+    try (PreparedStatement statement =
+        connection.prepareStatement(
+            "UPDATE importacoes SET " + file.column + " = NULL WHERE id = ?")) {
+      statement.setObject(1, jobId);
+      statement.executeUpdate();
+    }
+  }
+
+  /** Copies at most {@code limit} bytes and returns how many were copied. */
+  private static long copy(InputStream input, OutputStream output, long limit) throws IOException {
+    byte[] buffer = new byte[8192];
+    long copied = 0;
+    int read;
+    while (copied < limit
+        && (read = input.read(buffer, 0, (int) Math.min(buffer.length, limit - copied))) >= 0) {
+      output.write(buffer, 0, read);
+      copied += read;
+    }
+    return copied;
+  }
+
+  private Long oid(Connection connection, UUID jobId, File file, boolean forUpdate)
+      throws SQLException {
+    String sql = "SELECT " + file.column + " FROM importacoes WHERE id = ?";
+    try (PreparedStatement statement =
+        connection.prepareStatement(forUpdate ? sql + " FOR UPDATE" : sql)) {
+      statement.setObject(1, jobId);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        if (!resultSet.next()) {
+          return null;
+        }
+        long oid = resultSet.getLong(1);
+        return resultSet.wasNull() ? null : oid;
+      }
+    }
+  }
+
+  private LargeObjectManager manager(Connection connection) throws SQLException {
+    return connection.unwrap(PGConnection.class).getLargeObjectAPI();
+  }
+
+  /** Runs {@code work} in its own transaction. SQL errors surface as DataAccessExceptions. */
+  private <T> T inTransaction(Work<T> work) throws IOException {
+    try {
+      return jdbcTemplate.execute(
+          (ConnectionCallback<T>)
+              connection -> {
+                boolean autoCommit = connection.getAutoCommit();
+                connection.setAutoCommit(false);
+                try {
+                  T result = work.run(connection);
+                  connection.commit();
+                  return result;
+                } catch (IOException e) {
+                  connection.rollback();
+                  throw new UncheckedIOException(e);
+                } catch (SQLException | RuntimeException e) {
+                  connection.rollback();
+                  throw e;
+                } finally {
+                  connection.setAutoCommit(autoCommit);
+                }
+              });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private interface Work<T> {
+    T run(Connection connection) throws SQLException, IOException;
+  }
+}
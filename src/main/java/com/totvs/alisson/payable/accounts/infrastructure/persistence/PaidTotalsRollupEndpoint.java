@@ -0,0 +1,38 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.RollupCheckResponse;
+import com.totvs.alisson.payable.accounts.domain.service.AccountService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintenance of the {@code contas_pagas_diario} rollup. {@code GET /actuator/paidtotals} lists the
+ * days where it disagrees with {@code contas}; {@code POST} rebuilds it, locking {@code contas}
+ * against writes while it runs. Both read every paid account, so they are operator tools on the
+ * management port rather than part of the API.
+ */
+@Component
+@Endpoint(id = "paidtotals")
+public class PaidTotalsRollupEndpoint {
+
+  private final AccountService accountService;
+
+  @Autowired
+  public PaidTotalsRollupEndpoint(AccountService accountService) {
+    this.accountService = accountService;
+  }
+
+  @ReadOperation
+  public RollupCheckResponse check() {
+    return new RollupCheckResponse(accountService.checkPaidTotals());
+  }
+
+  /** Returns the number of days in the rebuilt rollup. */
+  @WriteOperation
+  public int rebuild() {
+    return accountService.rebuildPaidTotals();
+  }
+}
@@ -0,0 +1,334 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.SqlStatementStatsResponse;
+import com.totvs.alisson.payable.accounts.config.SqlStatsProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogicFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records every statement that goes through the DataSource proxy set up by {@link
+ * SqlStatsDataSourcePostProcessor}. Statements are grouped by their normalized text: literals and
+ * bind markers become {@code ?} and lists of them a single {@code (?)}. For each group it keeps a
+ * latency histogram, the rows read or written and how often it was slow or repeated.
+ *
+ * <p>Rows read by a query are counted as its result set is iterated. A SELECT that runs {@code
+ * accounts.sql-stats.n-plus-one-threshold} times on one connection is logged as a likely N+1;
+ * sequence fetches are expected to repeat and are left out.
+ * Statements slower than {@code slow-threshold} are logged with only the types of their bind
+ * values. Publishes {@code sql.statements}, {@code sql.rows}, {@code sql.statements.slow} and
+ * {@code sql.statements.nplusone}, all tagged by operation only.
+ */
+@Component
+@ConditionalOnProperty(prefix = "accounts.sql-stats", name = "enabled", havingValue = "true")
+public class SqlStatementRecorder
+    implements QueryExecutionListener, MethodExecutionListener, ResultSetProxyLogicFactory {
+
+  private static final Logger log = LoggerFactory.getLogger(SqlStatementRecorder.class);
+
+  static final String OTHER = "(other statements)";
+
+  private static final String START = SqlStatementRecorder.class.getName() + ".start";
+
+  private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+  private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+  private static final Pattern MARKER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+  private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+  private final SqlStatsProperties properties;
+  private final MeterRegistry registry;
+  private final MeterRegistry statementRegistry = new SimpleMeterRegistry();
+  private final Map<String, SqlStatementStats> statements = new ConcurrentHashMap<>();
+  private final Map<String, Map<String, Integer>> selectsByConnection = new ConcurrentHashMap<>();
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+  private final ThreadLocal<CountingResultSet> openedResultSet = new ThreadLocal<>();
+  private final Counter slow;
+  private final Counter likelyNPlusOne;
+
+  @Autowired
+  public SqlStatementRecorder(SqlStatsProperties properties, MeterRegistry registry) {
+    this.properties = properties;
+    this.registry = registry;
+    this.slow = Counter.builder("sql.statements.slow").register(registry);
+    this.likelyNPlusOne = Counter.builder("sql.statements.nplusone").register(registry);
+  }
+
+  /** A snapshot of every recorded statement, in no particular order. */
+  public List<SqlStatementStatsResponse> statements() {
+    return statements.values().stream().map(SqlStatementStats::snapshot).toList();
+  }
+
+  public void reset() {
+    statements.clear();
+    statementRegistry.clear();
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(START, System.nanoTime());
+  }
+
+  /**
+   * A {@code Statement.executeBatch} of several SQL strings arrives as one execution with a query
+   * per string. Each of them is counted with an even share of the elapsed time and its own update
+   * count, while {@code sql.statements} records the execution once.
+   */
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long start = execInfo.getCustomValue(START, Long.class);
+    long nanos =
+        start != null
+            ? System.nanoTime() - start
+            : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+    long share = queryInfoList.size() > 1 ? nanos / queryInfoList.size() : nanos;
+    long[] updated = updateCounts(execInfo.getResult(), queryInfoList.size());
+    CountingResultSet resultSet = takeResultSet(execInfo);
+    String executionOperation = null;
+
+    for (int i = 0; i < queryInfoList.size(); i++) {
+      QueryInfo query = queryInfoList.get(i);
+      String statement = normalize(query.getQuery());
+      String operation = operation(statement);
+      SqlStatementStats stats = stats(statement, operation);
+      executionOperation =
+          executionOperation == null || executionOperation.equals(operation)
+              ? operation
+              : "other";
+
+      stats.record(share, execInfo.isSuccess());
+      if (updated[i] > 0) {
+        stats.addRows(updated[i]);
+      }
+      if (resultSet != null) {
+        resultSet.stats = stats;
+        resultSet = null;
+      }
+      if ("select".equals(operation) && !statement.contains("nextval(")) {
+        countSelect(execInfo.getConnectionId(), statement, stats);
+      }
+      if (share >= properties.getSlowThreshold().toNanos()) {
+        stats.markSlow();
+        slow.increment();
+        log.warn(
+            "Slow SQL ({} ms, binds {}): {}",
+            TimeUnit.NANOSECONDS.toMillis(share),
+            redactedBinds(query),
+            statement);
+      }
+    }
+
+    if (executionOperation != null) {
+      timers
+          .computeIfAbsent(
+              executionOperation,
+              key -> Timer.builder("sql.statements").tag("operation", key).register(registry))
+          .record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** Wraps every result set the proxy hands out so the rows read from it can be counted. */
+  @Override
+  public ResultSetProxyLogic create(
+      ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+    CountingResultSet logic =
+        new CountingResultSet(
+            resultSet,
+            ResultSetProxyLogicFactory.DEFAULT.create(resultSet, connectionInfo, proxyConfig));
+    openedResultSet.set(logic);
+    return logic;
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {}
+
+  /** A closed connection ends the scope in which repeated SELECTs are counted. */
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    if (executionContext.getTarget() instanceof Connection
+        && "close".equals(executionContext.getMethod().getName())) {
+      selectsByConnection.remove(executionContext.getConnectionInfo().getConnectionId());
+    }
+  }
+
+  /**
+   * The result set created while {@code execInfo} ran, if any. The proxy creates it on the same
+   * thread just before calling {@link #afterQuery}.
+   */
+  private CountingResultSet takeResultSet(ExecutionInfo execInfo) {
+    CountingResultSet resultSet = openedResultSet.get();
+    openedResultSet.remove();
+    if (resultSet != null
+        && execInfo.getResult() instanceof ProxyJdbcObject proxy
+        && proxy.getTarget() == resultSet.target) {
+      return resultSet;
+    }
+    return null;
+  }
+
+  private SqlStatementStats stats(String statement, String operation) {
+    SqlStatementStats stats = statements.get(statement);
+    if (stats != null) {
+      return stats;
+    }
+    boolean full = statements.size() >= properties.getMaxStatements();
+    return statements.computeIfAbsent(
+        full ? OTHER : statement,
+        key ->
+            new SqlStatementStats(
+                key,
+                full ? "other" : operation,
+                statementRegistry,
+                Counter.builder("sql.rows")
+                    .tag("operation", full ? "other" : operation)
+                    .register(registry)));
+  }
+
+  private void countSelect(String connectionId, String statement, SqlStatementStats stats) {
+    int count =
+        selectsByConnection
+            .computeIfAbsent(connectionId, id -> new ConcurrentHashMap<>())
+            .merge(statement, 1, Integer::sum);
+    if (count == properties.getNPlusOneThreshold()) {
+      stats.markLikelyNPlusOne();
+      likelyNPlusOne.increment();
+      log.warn(
+          "Likely N+1: the same SELECT ran {} times on one connection: {}", count, statement);
+    }
+  }
+
+  /** Literals and bind markers become {@code ?}, so statements differing only in them match. */
+  static String normalize(String sql) {
+    String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+    normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+    normalized = MARKER_LIST.matcher(normalized).replaceAll("(?)");
+    return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+  }
+
+  static String operation(String statement) {
+    int end = statement.indexOf(' ');
+    String keyword = (end < 0 ? statement : statement.substring(0, end)).toLowerCase();
+    return switch (keyword) {
+      case "select", "insert", "update", "delete" -> keyword;
+      default -> "other";
+    };
+  }
+
+  /**
+   * Rows changed by each of {@code queries} statements of one execution. A batch of several SQL
+   * strings reports one count per string; a prepared statement batch reports one per parameter
+   * set, which all belong to its single statement. Statements that return rows are counted as
+   * read instead.
+   */
+  private static long[] updateCounts(Object result, int queries) {
+    long[] updated = new long[queries];
+    if (queries == 0) {
+      return updated;
+    }
+    if (result instanceof int[] counts && counts.length == queries && queries > 1) {
+      for (int i = 0; i < queries; i++) {
+        updated[i] = updateCount(counts[i]);
+      }
+    } else if (result instanceof int[] counts) {
+      for (int count : counts) {
+        updated[0] += updateCount(count);
+      }
+    } else if (result instanceof Integer count) {
+      updated[0] = count;
+    } else if (result instanceof Long count) {
+      updated[0] = count;
+    }
+    return updated;
+  }
+
+  private static long updateCount(int count) {
+    // Rewritten batches report SUCCESS_NO_INFO (-2) for each row they inserted.
+    return count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(count, 0);
+  }
+
+  /** The types of the first set of bind values, never the values themselves. */
+  static String redactedBinds(QueryInfo query) {
+    List<List<ParameterSetOperation>> sets = query.getParametersList();
+    if (sets.isEmpty()) {
+      return "[]";
+    }
+    String types =
+        sets.get(0).stream()
+            .map(SqlStatementRecorder::redact)
+            .collect(Collectors.joining(", ", "[", "]"));
+    return sets.size() > 1 ? types + " x " + sets.size() : types;
+  }
+
+  private static String redact(ParameterSetOperation operation) {
+    Object[] args = operation.getArgs();
+    if (ParameterSetOperation.isSetNullParameterOperation(operation)
+        || args.length < 2
+        || args[1] == null) {
+      return "null";
+    }
+    return args[1].getClass().getSimpleName();
+  }
+
+  /** Counts the rows read through one result set and adds them to its statement when it closes. */
+  private static final class CountingResultSet implements ResultSetProxyLogic {
+
+    private final ResultSet target;
+    private final ResultSetProxyLogic delegate;
+    private SqlStatementStats stats;
+    private long rows;
+
+    private CountingResultSet(ResultSet target, ResultSetProxyLogic delegate) {
+      this.target = target;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      Object result = delegate.invoke(proxy, method, args);
+      String name = method.getName();
+      if ("next".equals(name)) {
+        if (Boolean.TRUE.equals(result)) {
+          rows++;
+        } else {
+          flush();
+        }
+      } else if ("close".equals(name)) {
+        flush();
+      }
+      return result;
+    }
+
+    private void flush() {
+      if (stats != null && rows > 0) {
+        stats.addRows(rows);
+      }
+      rows = 0;
+    }
+  }
+}
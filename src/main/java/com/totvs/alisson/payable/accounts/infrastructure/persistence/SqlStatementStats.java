@@ -0,0 +1,84 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.SqlStatementStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** Latency histogram and counts of one normalized statement. */
+class SqlStatementStats {
+
+  private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+  private final String statement;
+  private final String operation;
+  private final Timer latency;
+  private final Counter exportedRows;
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder rows = new LongAdder();
+  private final LongAdder slow = new LongAdder();
+  private final LongAdder likelyNPlusOne = new LongAdder();
+
+  /**
+   * {@code statementRegistry} is private to the recorder and never scraped, so the statement text
+   * can be a tag there; {@code exportedRows} is the low-cardinality counter for its operation.
+   */
+  SqlStatementStats(
+      String statement, String operation, MeterRegistry statementRegistry, Counter exportedRows) {
+    this.statement = statement;
+    this.operation = operation;
+    this.latency =
+        Timer.builder("sql.statement")
+            .tag("statement", statement)
+            .publishPercentiles(PERCENTILES)
+            .register(statementRegistry);
+    this.exportedRows = exportedRows;
+  }
+
+  void record(long nanos, boolean success) {
+    latency.record(nanos, TimeUnit.NANOSECONDS);
+    if (!success) {
+      errors.increment();
+    }
+  }
+
+  void addRows(long count) {
+    rows.add(count);
+    exportedRows.increment(count);
+  }
+
+  void markSlow() {
+    slow.increment();
+  }
+
+  void markLikelyNPlusOne() {
+    likelyNPlusOne.increment();
+  }
+
+  SqlStatementStatsResponse snapshot() {
+    HistogramSnapshot snapshot = latency.takeSnapshot();
+    double[] percentiles = new double[PERCENTILES.length];
+    ValueAtPercentile[] values = snapshot.percentileValues();
+    for (int i = 0; i < values.length && i < percentiles.length; i++) {
+      percentiles[i] = values[i].value(TimeUnit.MILLISECONDS);
+    }
+    return new SqlStatementStatsResponse(
+        statement,
+        operation,
+        snapshot.count(),
+        errors.sum(),
+        snapshot.total(TimeUnit.MILLISECONDS),
+        snapshot.mean(TimeUnit.MILLISECONDS),
+        percentiles[0],
+        percentiles[1],
+        percentiles[2],
+        snapshot.max(TimeUnit.MILLISECONDS),
+        rows.sum(),
+        slow.sum(),
+        likelyNPlusOne.sum());
+  }
+}
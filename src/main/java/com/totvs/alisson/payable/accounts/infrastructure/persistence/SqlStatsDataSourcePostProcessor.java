@@ -0,0 +1,41 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the DataSource in a proxy that reports every statement to {@link SqlStatementRecorder}.
+ * The proxy still unwraps to the HikariCP pool and to the driver's connections, which the pool
+ * metrics, the request limiter and the COPY import rely on.
+ */
+@Component
+@ConditionalOnProperty(prefix = "accounts.sql-stats", name = "enabled", havingValue = "true")
+public class SqlStatsDataSourcePostProcessor implements BeanPostProcessor {
+
+  // Looked up lazily: a post-processor is created before the beans the recorder needs.
+  private final ObjectProvider<SqlStatementRecorder> recorder;
+
+  @Autowired
+  public SqlStatsDataSourcePostProcessor(ObjectProvider<SqlStatementRecorder> recorder) {
+    this.recorder = recorder;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+      SqlStatementRecorder listener = recorder.getObject();
+      return ProxyDataSourceBuilder.create(beanName, dataSource)
+          .listener(listener)
+          .methodListener(listener)
+          .proxyResultSet(listener)
+          .build();
+    }
+    return bean;
+  }
+}
@@ -0,0 +1,55 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.SqlStatementStatsResponse;
+import com.totvs.alisson.payable.accounts.config.SqlStatsProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.SqlStatsOrderEnum;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/sqlstats?limit=&orderBy=} lists the slowest normalized statements, by mean
+ * latency unless {@code orderBy} is P99, MAX or TOTAL. {@code DELETE} starts the counts over.
+ */
+@Component
+@ConditionalOnProperty(prefix = "accounts.sql-stats", name = "enabled", havingValue = "true")
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+  private final SqlStatementRecorder recorder;
+  private final SqlStatsProperties properties;
+
+  @Autowired
+  public SqlStatsEndpoint(SqlStatementRecorder recorder, SqlStatsProperties properties) {
+    this.recorder = recorder;
+    this.properties = properties;
+  }
+
+  @ReadOperation
+  public List<SqlStatementStatsResponse> slowest(
+      @Nullable Integer limit, @Nullable SqlStatsOrderEnum orderBy) {
+    ToDoubleFunction<SqlStatementStatsResponse> key =
+        switch (orderBy != null ? orderBy : SqlStatsOrderEnum.MEAN) {
+          case MEAN -> SqlStatementStatsResponse::getMeanMs;
+          case P99 -> SqlStatementStatsResponse::getP99Ms;
+          case MAX -> SqlStatementStatsResponse::getMaxMs;
+          case TOTAL -> SqlStatementStatsResponse::getTotalMs;
+        };
+    return recorder.statements().stream()
+        .sorted(Comparator.comparingDouble(key).reversed())
+        .limit(limit != null && limit > 0 ? limit : properties.getTop())
+        .toList();
+  }
+
+  @DeleteOperation
+  public void reset() {
+    recorder.reset();
+  }
+}
@@ -0,0 +1,125 @@
+package com.totvs.alisson.payable.accounts.infrastructure.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.totvs.alisson.payable.accounts.application.dto.ErrorResponse;
+import com.totvs.alisson.payable.accounts.config.RequestLimitProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Lets at most as many {@code /api/**} requests run as there are pooled connections; the others
+ * wait in line for up to {@code accounts.request-limit.queue-timeout} and are then answered with
+ * 503. With virtual threads Tomcat no longer caps concurrency, so without this every request would
+ * wait for a connection inside HikariCP and time out there instead. By default it is therefore
+ * only enabled together with virtual threads.
+ *
+ * <p>A request that continues asynchronously, such as an export, gives its permit back as soon as
+ * the request thread is released, so a long download does not keep other requests waiting.
+ * Authentication is left out: login has its own limit on password hashing. Publishes {@code
+ * request.limiter.active}, {@code request.limiter.waiting} and {@code request.limiter.rejected}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "accounts.request-limit", name = "enabled", havingValue = "true")
+public class ConnectionPoolLimitFilter extends OncePerRequestFilter {
+
+  /** HikariCP's own default, which it only fills in once the pool has started. */
+  private static final int DEFAULT_POOL_SIZE = 10;
+
+  private final RequestLimitProperties properties;
+  private final ObjectMapper objectMapper;
+  private final Semaphore permits;
+  private final Counter rejected;
+
+  @Autowired
+  public ConnectionPoolLimitFilter(
+      RequestLimitProperties properties,
+      DataSource dataSource,
+      ObjectMapper objectMapper,
+      MeterRegistry registry) {
+    this.properties = properties;
+    this.objectMapper = objectMapper;
+
+    int maxConcurrent =
+        properties.getMaxConcurrent() > 0 ? properties.getMaxConcurrent() : poolSize(dataSource);
+    this.permits = new Semaphore(maxConcurrent, true);
+
+    Gauge.builder("request.limiter.active", permits, p -> maxConcurrent - p.availablePermits())
+        .register(registry);
+    Gauge.builder("request.limiter.waiting", permits, Semaphore::getQueueLength)
+        .register(registry);
+    this.rejected = Counter.builder("request.limiter.rejected").register(registry);
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    String uri = request.getRequestURI();
+    return !uri.startsWith("/api/") || uri.startsWith("/api/auth/");
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    if (!acquire()) {
+      rejected.increment();
+      reject(response);
+      return;
+    }
+
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      permits.release();
+    }
+  }
+
+  private boolean acquire() {
+    try {
+      return permits.tryAcquire(properties.getQueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void reject(HttpServletResponse response) throws IOException {
+    HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+    ErrorResponse errorResponse =
+        new ErrorResponse(
+            LocalDateTime.now(), status.value(), "Too many requests in progress, try again later");
+    response.setStatus(status.value());
+    response.setHeader("Retry-After", "1");
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    objectMapper.writeValue(response.getOutputStream(), errorResponse);
+  }
+
+  private static int poolSize(DataSource dataSource) {
+    try {
+      if (dataSource.isWrapperFor(HikariDataSource.class)) {
+        int size = dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+        return size > 0 ? size : DEFAULT_POOL_SIZE;
+      }
+    } catch (SQLException e) {
+      // Not a HikariCP pool; fall through to its default size.
+    }
+    return DEFAULT_POOL_SIZE;
+  }
+}
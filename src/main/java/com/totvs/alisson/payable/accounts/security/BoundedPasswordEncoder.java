@@ -0,0 +1,106 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.PasswordHashingProperties;
+import com.totvs.alisson.payable.accounts.domain.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs BCrypt on a small dedicated pool instead of the request threads, so a burst of logins can
+ * use at most {@code accounts.password-hashing.pool-size} CPUs. When the pool and its queue are
+ * full the hash is not attempted and {@link PasswordHashingRejectedException} is thrown.
+ *
+ * <p>Publishes the pool as {@code executor.*{name=password.hashing}}, including the queue depth
+ * in {@code executor.queued}, the time spent hashing as {@code password.hashing{operation}} and
+ * rejections as {@code password.hashing.rejected}.
+ */
+@Component
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+  private static final String METRIC = "password.hashing";
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolTaskExecutor executor;
+  private final Timer encodeTimer;
+  private final Timer matchesTimer;
+  private final Counter rejected;
+
+  @Autowired
+  public BoundedPasswordEncoder(PasswordHashingProperties properties, MeterRegistry registry) {
+    this(new BCryptPasswordEncoder(properties.getStrength()), properties, registry);
+  }
+
+  BoundedPasswordEncoder(
+      PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry registry) {
+    this.delegate = delegate;
+
+    this.executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setThreadNamePrefix("password-hashing-");
+    executor.initialize();
+
+    new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), METRIC, Tags.empty())
+        .bindTo(registry);
+    this.encodeTimer = Timer.builder(METRIC).tag("operation", "encode").register(registry);
+    this.matchesTimer = Timer.builder(METRIC).tag("operation", "matches").register(registry);
+    this.rejected = Counter.builder(METRIC + ".rejected").register(registry);
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return submit(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return submit(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  private <T> T submit(Callable<T> task) {
+    Future<T> future;
+    try {
+      future = executor.submit(task);
+    } catch (TaskRejectedException e) {
+      rejected.increment();
+      throw new PasswordHashingRejectedException();
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing a password", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException("Failed to hash a password", e.getCause());
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+}
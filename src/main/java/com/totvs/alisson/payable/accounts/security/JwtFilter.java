@@ -1,13 +1,17 @@
 package com.totvs.alisson.payable.accounts.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collections;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,9 +20,25 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
-  @Autowired private JwtUtil jwtUtil;
+  static final String METRIC = "jwt.verification";
 
-  @Autowired private UserDetailsServiceImpl userDetailsService;
+  private final VerifiedTokenCache verifiedTokenCache;
+  private final UserTokenStatusCache userTokenStatusCache;
+  private final Timer validTimer;
+  private final Timer invalidTimer;
+  private final Timer rejectedTimer;
+
+  @Autowired
+  public JwtFilter(
+      VerifiedTokenCache verifiedTokenCache,
+      UserTokenStatusCache userTokenStatusCache,
+      MeterRegistry registry) {
+    this.verifiedTokenCache = verifiedTokenCache;
+    this.userTokenStatusCache = userTokenStatusCache;
+    this.validTimer = Timer.builder(METRIC).tag("result", "valid").register(registry);
+    this.invalidTimer = Timer.builder(METRIC).tag("result", "invalid").register(registry);
+    this.rejectedTimer = Timer.builder(METRIC).tag("result", "rejected").register(registry);
+  }
 
   @Override
   protected void doFilterInternal(
@@ -27,18 +47,22 @@ public class JwtFilter extends OncePerRequestFilter {
 
     final String authorizationHeader = request.getHeader("Authorization");
 
-    String username = null;
-    String jwt = null;
-
     if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-      jwt = authorizationHeader.substring(7);
-      username = jwtUtil.extractUsername(jwt);
-    }
-
-    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+      // Timed as a whole: a valid signature does not make a token usable until the status
+      // cache has accepted it, and that lookup may hit the database.
+      Timer.Sample sample = Timer.start();
+      VerifiedToken token = verifiedTokenCache.verify(authorizationHeader.substring(7));
+      boolean accepted = token != null && userTokenStatusCache.accepts(token);
+      sample.stop(token == null ? invalidTimer : accepted ? validTimer : rejectedTimer);
 
-      if (jwtUtil.validateToken(jwt, userDetails)) {
+      if (accepted && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // The principal is built from the verified claims; users have no roles, so the username
+        // is all there is to it.
+        UserDetails userDetails =
+            User.withUsername(token.getUsername())
+                .password("")
+                .authorities(Collections.emptyList())
+                .build();
         UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken =
             new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
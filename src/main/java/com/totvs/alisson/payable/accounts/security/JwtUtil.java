@@ -1,19 +1,47 @@
 package com.totvs.alisson.payable.accounts.security;
 
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.security.Keys;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.ServiceLoader;
 import java.util.function.Function;
+import javax.crypto.SecretKey;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+/**
+ * Signs and verifies tokens with a key decoded once from {@code accounts.jwt.secret}. The parser
+ * and the JSON serializer are built once as well and are safe to share between threads.
+ */
 @Component
 public class JwtUtil {
 
-  private static final String SECRET_KEY = "9dpskVbCKFt5Xtr13WRzwfSnPXMGxaZAix5umXxHOsE=";
+  private final SecretKey signingKey;
+  private final JwtParser parser;
+  private final Serializer<Map<String, ?>> serializer;
+  private final Duration expiration;
+
+  @Autowired
+  public JwtUtil(JwtProperties jwtProperties) {
+    if (jwtProperties.getSecret() == null || jwtProperties.getSecret().isBlank()) {
+      throw new IllegalStateException("accounts.jwt.secret must be set");
+    }
+    this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+    this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+    this.serializer = loadSerializer();
+    this.expiration = jwtProperties.getExpiration();
+  }
 
   public String extractUsername(String token) {
     return extractClaim(token, Claims::getSubject);
@@ -29,7 +57,18 @@ public class JwtUtil {
   }
 
   private Claims extractAllClaims(String token) {
-    return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+    return parser.parseClaimsJws(token).getBody();
+  }
+
+  /**
+   * Parses the token once, checking its signature and expiration. Throws a {@link
+   * io.jsonwebtoken.JwtException} when the token cannot be trusted.
+   */
+  public VerifiedToken verify(String token) {
+    Claims claims = extractAllClaims(token);
+    Instant issuedAt =
+        claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH;
+    return new VerifiedToken(claims.getSubject(), issuedAt, claims.getExpiration().toInstant());
   }
 
   public boolean isTokenExpired(String token) {
@@ -42,13 +81,14 @@ public class JwtUtil {
   }
 
   private String createToken(Map<String, Object> claims, String subject) {
+    long now = System.currentTimeMillis();
     return Jwts.builder()
+        .serializeToJsonWith(serializer)
         .setClaims(claims)
         .setSubject(subject)
-        .setIssuedAt(new Date(System.currentTimeMillis()))
-        .setExpiration(
-            new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10)) // 10 hours validity
-        .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+        .setIssuedAt(new Date(now))
+        .setExpiration(new Date(now + expiration.toMillis()))
+        .signWith(signingKey, SignatureAlgorithm.HS256)
         .compact();
   }
 
@@ -56,4 +96,12 @@ public class JwtUtil {
     final String username = extractUsername(token);
     return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
   }
+
+  // Without an explicit serializer every builder looks one up through the ServiceLoader again.
+  @SuppressWarnings("unchecked")
+  private static Serializer<Map<String, ?>> loadSerializer() {
+    return ServiceLoader.load(Serializer.class)
+        .findFirst()
+        .orElseThrow(() -> new IllegalStateException("No JWT JSON serializer on the classpath"));
+  }
 }
@@ -28,6 +28,13 @@ public class UserDetailsServiceImpl implements UserDetailsService {
       throw new UsernameNotFoundException("User not found with username: " + username);
     }
 
-    return new User(appUser.getUsername(), appUser.getPassword(), Collections.emptyList());
+    return new User(
+        appUser.getUsername(),
+        appUser.getPassword(),
+        appUser.isEnabled(),
+        true,
+        true,
+        true,
+        Collections.emptyList());
   }
 }
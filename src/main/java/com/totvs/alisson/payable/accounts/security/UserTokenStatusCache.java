@@ -0,0 +1,76 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.UserCheckEnum;
+import com.totvs.alisson.payable.accounts.domain.repository.UserRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.UserTokenStatus;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides whether a verified token still belongs to an enabled user that has not revoked it, as
+ * configured by {@code accounts.jwt.user-check}. With {@code CACHED}, each user's status is read
+ * at most once per {@code accounts.jwt.user-check-ttl}; a revocation takes effect at once on this
+ * replica and within that TTL on the others.
+ */
+@Component
+public class UserTokenStatusCache {
+
+  private final UserRepository userRepository;
+  private final UserCheckEnum userCheck;
+  private final Cache<String, Optional<UserTokenStatus>> cache;
+
+  @Autowired
+  public UserTokenStatusCache(UserRepository userRepository, JwtProperties jwtProperties) {
+    this.userRepository = userRepository;
+    this.userCheck = jwtProperties.getUserCheck();
+    this.cache =
+        Caffeine.newBuilder()
+            .expireAfterWrite(jwtProperties.getUserCheckTtl())
+            .maximumSize(jwtProperties.getVerifiedCacheSize())
+            .build();
+  }
+
+  public boolean accepts(VerifiedToken token) {
+    if (userCheck == UserCheckEnum.NONE) {
+      return true;
+    }
+
+    Optional<UserTokenStatus> status =
+        userCheck == UserCheckEnum.CACHED
+            ? cache.get(token.getUsername(), this::load)
+            : load(token.getUsername());
+    return status
+        .map(
+            user ->
+                user.isEnabled()
+                    && (user.getTokensRevokedAt() == null
+                        || !token.getIssuedAt().isBefore(toSeconds(user.getTokensRevokedAt()))))
+        .orElse(false);
+  }
+
+  /**
+   * Rejects every token issued to the user before the current second. Token issue times have a
+   * precision of one second, so the revocation is stored at that precision too: a login right after
+   * the revocation gets a token that is accepted, at the cost of also accepting a token issued
+   * earlier within the same second.
+   */
+  public void revoke(String username) {
+    userRepository.revokeTokens(username, toSeconds(Instant.now()));
+    cache.invalidate(username);
+  }
+
+  /** Revocations stored before they were truncated are compared at second precision as well. */
+  private static Instant toSeconds(Instant instant) {
+    return instant.truncatedTo(ChronoUnit.SECONDS);
+  }
+
+  private Optional<UserTokenStatus> load(String username) {
+    return Optional.ofNullable(userRepository.findTokenStatusByUsername(username));
+  }
+}
@@ -0,0 +1,19 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** What is left of a JWT once its signature has been checked. */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+
+  private final String username;
+  private final Instant issuedAt;
+  private final Instant expiresAt;
+
+  public boolean isExpired(Instant now) {
+    return !now.isBefore(expiresAt);
+  }
+}
@@ -0,0 +1,85 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers the tokens whose signature has already been checked, so each token is parsed and
+ * verified once instead of on every request. Entries are keyed by the SHA-256 of the token, so the
+ * bearer tokens themselves are not kept in memory, and they expire together with the token.
+ * Invalid tokens are never cached.
+ */
+@Component
+public class VerifiedTokenCache {
+
+  private final JwtUtil jwtUtil;
+  private final Cache<String, VerifiedToken> cache;
+
+  @Autowired
+  public VerifiedTokenCache(JwtUtil jwtUtil, JwtProperties jwtProperties) {
+    this.jwtUtil = jwtUtil;
+    // Caffeine evicts asynchronously, so a cache of size 0 would still serve some hits.
+    this.cache =
+        jwtProperties.getVerifiedCacheSize() > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedCacheSize())
+                .expireAfter(new UntilTokenExpires())
+                .build()
+            : null;
+  }
+
+  /** Returns the verified token, or {@code null} when it is malformed, forged or expired. */
+  public VerifiedToken verify(String token) {
+    VerifiedToken verified;
+    try {
+      verified =
+          cache != null
+              ? cache.get(hash(token), key -> jwtUtil.verify(token))
+              : jwtUtil.verify(token);
+    } catch (JwtException | IllegalArgumentException e) {
+      return null;
+    }
+    return verified.isExpired(Instant.now()) ? null : verified;
+  }
+
+  private static String hash(String token) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+
+  private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+    @Override
+    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+      return Math.max(0, Duration.between(Instant.now(), value.getExpiresAt()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, VerifiedToken value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
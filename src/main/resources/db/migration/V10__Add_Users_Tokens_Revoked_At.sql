@@ -0,0 +1,3 @@
+-- Tokens of the user issued before this instant are rejected, even though their signature is still
+-- valid. Set by POST /api/auth/revoke.
+ALTER TABLE users ADD COLUMN tokens_revoked_at TIMESTAMP WITH TIME ZONE;
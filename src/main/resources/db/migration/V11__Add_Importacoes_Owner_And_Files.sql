@@ -0,0 +1,9 @@
+-- Import jobs may be picked up by any replica. no_responsavel is the node running or queueing the
+-- job and heartbeat_em the last time that node reported it alive; other nodes only take over a job
+-- whose heartbeat is stale. The upload and the result file are kept as large objects so that every
+-- node can read them, instead of on the local disk of the node that received the upload.
+ALTER TABLE importacoes
+    ADD COLUMN no_responsavel VARCHAR(64),
+    ADD COLUMN heartbeat_em TIMESTAMP WITH TIME ZONE,
+    ADD COLUMN arquivo_entrada OID,
+    ADD COLUMN arquivo_resultado OID;
@@ -0,0 +1,68 @@
+-- Same as V8, except that days left without accounts are removed by primary key instead of by
+-- scanning the whole rollup after every statement. The upserts return the days whose count reached
+-- zero, and only those are deleted. Inserts only raise counts, so they never leave an empty day.
+CREATE OR REPLACE FUNCTION contas_pagas_diario_apply() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    vazios DATE[];
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+        SELECT data_pagamento, SUM(valor), COUNT(*)
+        FROM novas
+        WHERE data_pagamento IS NOT NULL
+        GROUP BY data_pagamento
+        ORDER BY data_pagamento
+        ON CONFLICT (data_pagamento) DO UPDATE
+            SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                quantidade = d.quantidade + EXCLUDED.quantidade;
+        RETURN NULL;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        WITH aplicados AS (
+            INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+            SELECT data_pagamento, -SUM(valor), -COUNT(*)
+            FROM antigas
+            WHERE data_pagamento IS NOT NULL
+            GROUP BY data_pagamento
+            ORDER BY data_pagamento
+            ON CONFLICT (data_pagamento) DO UPDATE
+                SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                    quantidade = d.quantidade + EXCLUDED.quantidade
+            RETURNING d.data_pagamento, d.quantidade
+        )
+        SELECT array_agg(data_pagamento) INTO vazios FROM aplicados WHERE quantidade = 0;
+
+    ELSE
+        WITH aplicados AS (
+            INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+            SELECT delta.data_pagamento, SUM(delta.valor), SUM(delta.quantidade)
+            FROM (
+                SELECT n.data_pagamento AS data_nova, n.valor AS valor_novo,
+                       o.data_pagamento AS data_antiga, o.valor AS valor_antigo
+                FROM novas n
+                FULL JOIN antigas o ON o.id = n.id
+                WHERE n.valor IS DISTINCT FROM o.valor
+                   OR n.data_pagamento IS DISTINCT FROM o.data_pagamento
+            ) alteradas
+            CROSS JOIN LATERAL (
+                VALUES (alteradas.data_nova, alteradas.valor_novo, 1),
+                       (alteradas.data_antiga, -alteradas.valor_antigo, -1)
+            ) delta (data_pagamento, valor, quantidade)
+            WHERE delta.data_pagamento IS NOT NULL
+            GROUP BY delta.data_pagamento
+            ORDER BY delta.data_pagamento
+            ON CONFLICT (data_pagamento) DO UPDATE
+                SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                    quantidade = d.quantidade + EXCLUDED.quantidade
+            RETURNING d.data_pagamento, d.quantidade
+        )
+        SELECT array_agg(data_pagamento) INTO vazios FROM aplicados WHERE quantidade = 0;
+    END IF;
+
+    IF vazios IS NOT NULL THEN
+        DELETE FROM contas_pagas_diario WHERE data_pagamento = ANY (vazios) AND quantidade = 0;
+    END IF;
+    RETURN NULL;
+END;
+$$;
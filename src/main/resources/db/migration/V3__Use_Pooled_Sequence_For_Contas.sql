@@ -0,0 +1,4 @@
+-- Hibernate's pooled optimizer reserves blocks of ids with a single nextval call, which lets
+-- inserts into contas be sent as JDBC batches. The increment must match the allocationSize
+-- of the @SequenceGenerator on Account.
+ALTER SEQUENCE contas_id_seq INCREMENT BY 50;
@@ -0,0 +1,15 @@
+CREATE TABLE importacoes (
+    id UUID PRIMARY KEY,
+    situacao VARCHAR(20) NOT NULL,
+    motor VARCHAR(10) NOT NULL,
+    nome_arquivo VARCHAR(255),
+    linhas_processadas BIGINT NOT NULL DEFAULT 0,
+    linhas_sucesso BIGINT NOT NULL DEFAULT 0,
+    linhas_erro BIGINT NOT NULL DEFAULT 0,
+    mensagem_erro VARCHAR(1000),
+    criado_em TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    iniciado_em TIMESTAMP WITH TIME ZONE,
+    finalizado_em TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_importacoes_situacao ON importacoes (situacao);
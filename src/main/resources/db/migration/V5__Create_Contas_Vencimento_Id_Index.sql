@@ -0,0 +1,3 @@
+-- Supports keyset pagination over (data_vencimento, id). On large tables the index can be built
+-- beforehand with CREATE INDEX CONCURRENTLY under the same name to avoid blocking writes.
+CREATE INDEX IF NOT EXISTS idx_contas_vencimento_id ON contas (data_vencimento, id);
@@ -0,0 +1,5 @@
+-- Lets "lower(descricao) LIKE '%term%'" use an index instead of a sequential scan. Terms shorter
+-- than three characters have no trigrams and still scan the table.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_contas_descricao_trgm ON contas USING gin (lower(descricao) gin_trgm_ops);
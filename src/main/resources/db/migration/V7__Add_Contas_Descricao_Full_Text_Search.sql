@@ -0,0 +1,8 @@
+-- Full-text search over descricao. The column is generated, so every insert and update keeps it
+-- current without an extra statement. The 'portuguese' configuration stems words and drops
+-- stop words, so "pagamentos" matches "pagamento".
+ALTER TABLE contas
+    ADD COLUMN IF NOT EXISTS descricao_tsv tsvector
+        GENERATED ALWAYS AS (to_tsvector('portuguese', descricao)) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_contas_descricao_tsv ON contas USING gin (descricao_tsv);
@@ -0,0 +1,115 @@
+-- Sum and count of contas.valor per data_pagamento, so range totals read one row per day instead
+-- of every paid account. Kept current by the statement-level triggers below, which also cover
+-- bulk statements and COPY.
+CREATE TABLE contas_pagas_diario (
+    data_pagamento DATE PRIMARY KEY,
+    valor_total NUMERIC(18, 2) NOT NULL,
+    quantidade BIGINT NOT NULL
+);
+
+-- Recomputes the whole rollup from contas. Writes to contas wait until it commits, so no change
+-- can slip between the scan and the replacement.
+CREATE OR REPLACE FUNCTION contas_pagas_diario_rebuild() RETURNS INTEGER
+LANGUAGE plpgsql AS $$
+DECLARE
+    days INTEGER;
+BEGIN
+    LOCK TABLE contas IN SHARE MODE;
+    DELETE FROM contas_pagas_diario;
+
+    INSERT INTO contas_pagas_diario (data_pagamento, valor_total, quantidade)
+    SELECT data_pagamento, SUM(valor), COUNT(*)
+    FROM contas
+    WHERE data_pagamento IS NOT NULL
+    GROUP BY data_pagamento;
+
+    GET DIAGNOSTICS days = ROW_COUNT;
+    RETURN days;
+END;
+$$;
+
+-- Applies the rows changed by one statement. Transition tables hold every affected row, so the
+-- rollup receives one upsert per touched day rather than one per account. Updates that change
+-- neither valor nor data_pagamento (e.g. a status change) leave the rollup alone. Rows are
+-- upserted in date order so concurrent statements lock the days in the same order.
+CREATE OR REPLACE FUNCTION contas_pagas_diario_apply() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+        SELECT data_pagamento, SUM(valor), COUNT(*)
+        FROM novas
+        WHERE data_pagamento IS NOT NULL
+        GROUP BY data_pagamento
+        ORDER BY data_pagamento
+        ON CONFLICT (data_pagamento) DO UPDATE
+            SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                quantidade = d.quantidade + EXCLUDED.quantidade;
+
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+        SELECT data_pagamento, -SUM(valor), -COUNT(*)
+        FROM antigas
+        WHERE data_pagamento IS NOT NULL
+        GROUP BY data_pagamento
+        ORDER BY data_pagamento
+        ON CONFLICT (data_pagamento) DO UPDATE
+            SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                quantidade = d.quantidade + EXCLUDED.quantidade;
+
+    ELSE
+        INSERT INTO contas_pagas_diario AS d (data_pagamento, valor_total, quantidade)
+        SELECT delta.data_pagamento, SUM(delta.valor), SUM(delta.quantidade)
+        FROM (
+            SELECT n.data_pagamento AS data_nova, n.valor AS valor_novo,
+                   o.data_pagamento AS data_antiga, o.valor AS valor_antigo
+            FROM novas n
+            FULL JOIN antigas o ON o.id = n.id
+            WHERE n.valor IS DISTINCT FROM o.valor
+               OR n.data_pagamento IS DISTINCT FROM o.data_pagamento
+        ) alteradas
+        CROSS JOIN LATERAL (
+            VALUES (alteradas.data_nova, alteradas.valor_novo, 1),
+                   (alteradas.data_antiga, -alteradas.valor_antigo, -1)
+        ) delta (data_pagamento, valor, quantidade)
+        WHERE delta.data_pagamento IS NOT NULL
+        GROUP BY delta.data_pagamento
+        ORDER BY delta.data_pagamento
+        ON CONFLICT (data_pagamento) DO UPDATE
+            SET valor_total = d.valor_total + EXCLUDED.valor_total,
+                quantidade = d.quantidade + EXCLUDED.quantidade;
+    END IF;
+
+    DELETE FROM contas_pagas_diario WHERE quantidade = 0;
+    RETURN NULL;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION contas_pagas_diario_truncate() RETURNS TRIGGER
+LANGUAGE plpgsql AS $$
+BEGIN
+    TRUNCATE contas_pagas_diario;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER contas_pagas_diario_insert
+    AFTER INSERT ON contas
+    REFERENCING NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION contas_pagas_diario_apply();
+
+CREATE TRIGGER contas_pagas_diario_update
+    AFTER UPDATE ON contas
+    REFERENCING OLD TABLE AS antigas NEW TABLE AS novas
+    FOR EACH STATEMENT EXECUTE FUNCTION contas_pagas_diario_apply();
+
+CREATE TRIGGER contas_pagas_diario_delete
+    AFTER DELETE ON contas
+    REFERENCING OLD TABLE AS antigas
+    FOR EACH STATEMENT EXECUTE FUNCTION contas_pagas_diario_apply();
+
+CREATE TRIGGER contas_pagas_diario_truncate
+    AFTER TRUNCATE ON contas
+    FOR EACH STATEMENT EXECUTE FUNCTION contas_pagas_diario_truncate();
+
+SELECT contas_pagas_diario_rebuild();
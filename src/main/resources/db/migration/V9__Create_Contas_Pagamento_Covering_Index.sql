@@ -0,0 +1,7 @@
+-- Covers the paid-totals summary: the query only reads data_pagamento, valor and situacao of paid
+-- accounts, so it is answered by an index-only scan without visiting the table. Unpaid accounts
+-- are left out, which keeps the index small. Index-only scans depend on the visibility map, which
+-- autovacuum keeps current.
+CREATE INDEX IF NOT EXISTS idx_contas_pagamento_valor_situacao
+    ON contas (data_pagamento) INCLUDE (valor, situacao)
+    WHERE data_pagamento IS NOT NULL;
@@ -0,0 +1,179 @@
+package com.totvs.alisson.payable.accounts.application.controller;
+
+import com.totvs.alisson.payable.accounts.application.service.AuthService;
+import com.totvs.alisson.payable.accounts.config.PasswordHashingProperties;
+import com.totvs.alisson.payable.accounts.domain.repository.UserRepository;
+import com.totvs.alisson.payable.accounts.security.BoundedPasswordEncoder;
+import com.totvs.alisson.payable.accounts.security.JwtUtil;
+import com.totvs.alisson.payable.accounts.security.UserDetailsServiceImpl;
+import com.totvs.alisson.payable.accounts.security.UserTokenStatusCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs logins through a real {@link DaoAuthenticationProvider} backed by a hashing pool with one
+ * thread and one queue slot, to check that a full pool answers 429 for known and unknown users
+ * alike.
+ */
+@SpringJUnitConfig
+public class AuthControllerTest {
+
+  @Configuration
+  @Import({AuthController.class, AuthService.class})
+  static class Config {
+
+    @Bean
+    SimpleMeterRegistry registry() {
+      return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    BoundedPasswordEncoder passwordEncoder(SimpleMeterRegistry registry) {
+      PasswordHashingProperties properties = new PasswordHashingProperties();
+      properties.setStrength(4);
+      properties.setPoolSize(1);
+      properties.setQueueCapacity(1);
+      return new BoundedPasswordEncoder(properties, registry);
+    }
+
+    @Bean
+    AuthenticationManager authenticationManager(BoundedPasswordEncoder passwordEncoder) {
+      UserDetails alice =
+          User.withUsername("alice").password(passwordEncoder.encode("secret")).build();
+      DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
+      authProvider.setUserDetailsService(new InMemoryUserDetailsManager(alice));
+      authProvider.setPasswordEncoder(passwordEncoder);
+      return new ProviderManager(authProvider);
+    }
+  }
+
+  @MockitoBean private JwtUtil jwtUtil;
+
+  @MockitoBean private UserDetailsServiceImpl userDetailsService;
+
+  @MockitoBean private UserRepository userRepository;
+
+  @MockitoBean private UserTokenStatusCache userTokenStatusCache;
+
+  @Autowired private AuthController authController;
+
+  @Autowired private BoundedPasswordEncoder passwordEncoder;
+
+  @Autowired private SimpleMeterRegistry registry;
+
+  private MockMvc mockMvc;
+
+  @BeforeEach
+  public void setUp() {
+    mockMvc = MockMvcBuilders.standaloneSetup(authController).build();
+  }
+
+  @Test
+  public void testLoginSucceedsWhileThePoolHasRoom() throws Exception {
+    when(userDetailsService.loadUserByUsername("alice"))
+        .thenReturn(User.withUsername("alice").password("unused").build());
+    when(jwtUtil.generateToken(any())).thenReturn("token");
+
+    mockMvc
+        .perform(login("alice", "secret"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.jwt").value("token"));
+  }
+
+  @Test
+  public void testLoginIsRejectedWhenThePoolIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> occupied = occupyPool(release);
+    try {
+      mockMvc
+          .perform(login("alice", "secret"))
+          .andExpect(status().isTooManyRequests())
+          .andExpect(header().string("Retry-After", "1"));
+      // Unknown users go through the provider's dummy hash, which must be rejected the same way.
+      mockMvc
+          .perform(login("nobody", "secret"))
+          .andExpect(status().isTooManyRequests())
+          .andExpect(header().string("Retry-After", "1"));
+    } finally {
+      release.countDown();
+      occupied.get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  /** Keeps the hashing thread and its queue slot busy until {@code release} is counted down. */
+  private CompletableFuture<Void> occupyPool(CountDownLatch release) throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CharSequence blocking =
+        new CharSequence() {
+          @Override
+          public int length() {
+            return 0;
+          }
+
+          @Override
+          public char charAt(int index) {
+            throw new IndexOutOfBoundsException(index);
+          }
+
+          @Override
+          public CharSequence subSequence(int start, int end) {
+            return "";
+          }
+
+          @Override
+          public String toString() {
+            started.countDown();
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            return "";
+          }
+        };
+    CompletableFuture<String> running =
+        CompletableFuture.supplyAsync(() -> passwordEncoder.encode(blocking));
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    CompletableFuture<String> queued =
+        CompletableFuture.supplyAsync(() -> passwordEncoder.encode(blocking));
+    while (registry.get("executor.queued").gauge().value() < 1) {
+      Thread.sleep(10);
+    }
+    return CompletableFuture.allOf(running, queued);
+  }
+
+  private MockHttpServletRequestBuilder login(String username, String password) {
+    return post("/api/auth/authenticate")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}");
+  }
+}
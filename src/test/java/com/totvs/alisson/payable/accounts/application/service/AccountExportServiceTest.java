@@ -0,0 +1,98 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.totvs.alisson.payable.accounts.config.ExportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.enums.ExportFormatEnum;
+import com.totvs.alisson.payable.accounts.domain.service.AccountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountExportServiceTest {
+
+  private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+  @Mock private AccountService accountService;
+
+  private AccountExportService accountExportService;
+
+  @BeforeEach
+  public void setUp() {
+    ExportProperties exportProperties = new ExportProperties();
+    exportProperties.setFetchSize(2);
+    accountExportService =
+        new AccountExportService(
+            accountService,
+            exportProperties,
+            Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build());
+
+    doAnswer(
+            invocation -> {
+              Consumer<Account> consumer = invocation.getArgument(4);
+              consumer.accept(account(1L, "Energia, \"luz\"", null));
+              consumer.accept(account(2L, "Agua", START.plusDays(3)));
+              consumer.accept(account(3L, "Internet", null));
+              return null;
+            })
+        .when(accountService)
+        .exportFiltered(eq("a"), eq(START), eq(null), eq(2), any());
+  }
+
+  @Test
+  public void testExportCsvWritesEveryAccount() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    accountExportService.export("a", START, null, ExportFormatEnum.CSV, output);
+
+    assertEquals(
+        "\"id\",\"amount\",\"dueDate\",\"paymentDate\",\"description\",\"status\"\n"
+            + "\"1\",\"10.50\",\"2024-01-01\",\"\",\"Energia, \"\"luz\"\"\",\"PENDENTE\"\n"
+            + "\"2\",\"10.50\",\"2024-01-01\",\"2024-01-04\",\"Agua\",\"PAGO\"\n"
+            + "\"3\",\"10.50\",\"2024-01-01\",\"\",\"Internet\",\"PENDENTE\"\n",
+        output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testExportNdjsonWritesOneObjectPerLine() throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    accountExportService.export("a", START, null, ExportFormatEnum.NDJSON, output);
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n", -1);
+    assertEquals(4, lines.length);
+    assertEquals("", lines[3]);
+    assertEquals(
+        "{\"id\":2,\"amount\":10.50,\"description\":\"Agua\",\"status\":\"PAGO\","
+            + "\"dueDate\":\"2024-01-01\",\"paymentDate\":\"2024-01-04\"}",
+        lines[1]);
+  }
+
+  private Account account(Long id, String description, LocalDate paymentDate) {
+    Account account = new Account();
+    account.setId(id);
+    account.setAmount(new BigDecimal("10.50"));
+    account.setDueDate(START);
+    account.setPaymentDate(paymentDate);
+    account.setDescription(description);
+    account.setStatus(paymentDate != null ? "PAGO" : "PENDENTE");
+    return account;
+  }
+}
@@ -0,0 +1,83 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.service.AccountCsvImporter;
+import com.totvs.alisson.payable.accounts.infrastructure.persistence.AccountCopyLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CsvImportServiceTest {
+
+  private static final String CSV =
+      "amount,dueDate,paymentDate,description,status\n"
+          + "100.00,2030-01-10,,Energia,PENDENTE\n"
+          + "abc,2030-01-11,,Agua,PENDENTE\n"
+          + "300.00,2030-01-12,,Internet,PENDENTE\n";
+
+  @Mock private AccountCsvImporter accountCsvImporter;
+
+  @Mock private AccountCopyLoader accountCopyLoader;
+
+  private final CsvParserService csvParserService = new CsvParserService();
+
+  private CsvImportService csvImportService;
+
+  @BeforeEach
+  public void setUp() {
+    ImportProperties importProperties = new ImportProperties();
+    importProperties.setChunkSize(2);
+    csvImportService =
+        new CsvImportService(
+            accountCsvImporter, new CsvExportService(), accountCopyLoader, importProperties);
+  }
+
+  @Test
+  public void testImportCsvProcessesRowsInChunks() throws Exception {
+    when(accountCsvImporter.saveAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<AccountCsvRecord> chunk = invocation.getArgument(0);
+              chunk.stream()
+                  .filter(record -> record.getImportStatus() == null)
+                  .forEach(record -> record.setImportStatus("SUCCESS"));
+              return chunk;
+            });
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    csvImportService.importCsv(
+        csvParserService.openReader(new ByteArrayInputStream(CSV.getBytes(StandardCharsets.UTF_8))),
+        output,
+        ImportEngineEnum.JPA);
+
+    String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(4, lines.length);
+    assertTrue(lines[1].contains("\"Energia\"") && lines[1].contains("\"SUCCESS\""));
+    assertTrue(lines[2].contains("\"ERROR\"") && lines[2].contains("Invalid row"));
+    assertTrue(lines[3].contains("\"Internet\"") && lines[3].contains("\"SUCCESS\""));
+    verify(accountCsvImporter, times(2)).saveAll(anyList());
+  }
+
+  @Test
+  public void testOpenReaderRejectsMissingColumns() {
+    byte[] csv = "amount,dueDate\n".getBytes(StandardCharsets.UTF_8);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> csvParserService.openReader(new ByteArrayInputStream(csv)));
+  }
+}
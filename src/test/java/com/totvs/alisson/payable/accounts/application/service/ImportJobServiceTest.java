@@ -0,0 +1,439 @@
+package com.totvs.alisson.payable.accounts.application.service;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.ImportJob;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportJobStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobNotFinishedException;
+import com.totvs.alisson.payable.accounts.domain.exception.ImportJobRejectedException;
+import com.totvs.alisson.payable.accounts.domain.repository.ImportJobRepository;
+import com.totvs.alisson.payable.accounts.infrastructure.persistence.ImportFileStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ImportJobServiceTest {
+
+  private static final String CSV =
+      "amount,dueDate,paymentDate,description,status\n100.00,2030-01-10,,Energia,PENDENTE\n";
+
+  private static final long TIMEOUT_MILLIS = 5000;
+
+  @Mock private ImportJobRepository repository;
+
+  @Mock private ImportFileStore fileStore;
+
+  @Mock private CsvImportService csvImportService;
+
+  @TempDir private Path storageDir;
+
+  private final Map<UUID, ImportJob> jobs = new ConcurrentHashMap<>();
+
+  private final ImportProperties importProperties = new ImportProperties();
+
+  private ImportJobService importJobService;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    when(repository.save(any(ImportJob.class)))
+        .thenAnswer(
+            invocation -> {
+              ImportJob job = invocation.getArgument(0);
+              jobs.put(job.getId(), copy(job));
+              return job;
+            });
+    when(repository.findById(any(UUID.class)))
+        .thenAnswer(
+            invocation -> Optional.ofNullable(jobs.get(invocation.getArgument(0))).map(this::copy));
+    when(repository.queue(any(UUID.class), anyString(), any(Instant.class)))
+        .thenAnswer(
+            invocation ->
+                update(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    ImportJobStatusEnum.UPLOADING,
+                    job -> job.setStatus(ImportJobStatusEnum.QUEUED.name())));
+    when(repository.start(any(UUID.class), anyString(), any(Instant.class)))
+        .thenAnswer(
+            invocation ->
+                update(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    ImportJobStatusEnum.QUEUED,
+                    job -> {
+                      job.setStatus(ImportJobStatusEnum.RUNNING.name());
+                      job.setStartedAt(invocation.getArgument(2));
+                    }));
+    when(repository.addProgress(
+            any(UUID.class), anyString(), anyLong(), anyLong(), anyLong(), any(Instant.class)))
+        .thenAnswer(
+            invocation ->
+                update(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    ImportJobStatusEnum.RUNNING,
+                    job -> {
+                      long processed = invocation.getArgument(2);
+                      long succeeded = invocation.getArgument(3);
+                      long failed = invocation.getArgument(4);
+                      job.setRowsProcessed(job.getRowsProcessed() + processed);
+                      job.setRowsSucceeded(job.getRowsSucceeded() + succeeded);
+                      job.setRowsFailed(job.getRowsFailed() + failed);
+                    }));
+    when(repository.finish(
+            any(UUID.class), anyString(), anyString(), anyString(), any(), any(Instant.class)))
+        .thenAnswer(
+            invocation ->
+                update(
+                    invocation.getArgument(0),
+                    invocation.getArgument(1),
+                    ImportJobStatusEnum.valueOf(invocation.getArgument(2)),
+                    job -> {
+                      job.setStatus(invocation.getArgument(3));
+                      job.setErrorMessage(invocation.getArgument(4));
+                      job.setFinishedAt(invocation.getArgument(5));
+                    }));
+    doAnswer(
+            invocation -> {
+              jobs.remove(invocation.<UUID>getArgument(0));
+              return null;
+            })
+        .when(repository)
+        .deleteById(any(UUID.class));
+    when(fileStore.copy(any(UUID.class), eq(ImportFileStore.File.INPUT), any(OutputStream.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation.<OutputStream>getArgument(2).write(CSV.getBytes(StandardCharsets.UTF_8));
+              return true;
+            });
+
+    importProperties.getJobs().setStorageDir(storageDir.toString());
+    importProperties.getJobs().setPoolSize(1);
+    importProperties.getJobs().setQueueCapacity(0);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    if (importJobService != null) {
+      importJobService.shutdown();
+    }
+  }
+
+  @Test
+  public void testSubmitStoresTheUploadAndCompletesTheJob() throws Exception {
+    importJobService = service();
+
+    ImportJob job = importJobService.submit(upload(), ImportEngineEnum.COPY);
+
+    assertEquals(ImportJobStatusEnum.QUEUED.name(), job.getStatus());
+    assertNotNull(job.getOwner());
+    verify(fileStore)
+        .store(eq(job.getId()), eq(ImportFileStore.File.INPUT), any(InputStream.class));
+    ImportJob finished = awaitStatus(job.getId(), ImportJobStatusEnum.COMPLETED);
+    assertNotNull(finished.getStartedAt());
+    assertNotNull(finished.getFinishedAt());
+    verify(csvImportService)
+        .importCsv(any(), any(OutputStream.class), eq(ImportEngineEnum.COPY), any());
+    verify(fileStore)
+        .store(eq(job.getId()), eq(ImportFileStore.File.RESULT), any(InputStream.class));
+    verify(fileStore, timeout(TIMEOUT_MILLIS)).delete(job.getId(), ImportFileStore.File.INPUT);
+  }
+
+  @Test
+  public void testSubmitIsRejectedWhenThePoolIsFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch started = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              started.countDown();
+              release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+              return null;
+            })
+        .when(csvImportService)
+        .importCsv(any(), any(OutputStream.class), any(), any());
+    importJobService = service();
+
+    ImportJob running = importJobService.submit(upload(), ImportEngineEnum.JPA);
+    assertTrue(started.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+    assertThrows(
+        ImportJobRejectedException.class,
+        () -> importJobService.submit(upload(), ImportEngineEnum.JPA));
+    assertEquals(1, jobs.size());
+    verify(fileStore, times(2)).store(any(UUID.class), eq(ImportFileStore.File.INPUT), any());
+    verify(fileStore)
+        .delete(argThat(id -> !running.getId().equals(id)), eq(ImportFileStore.File.INPUT));
+
+    release.countDown();
+    awaitStatus(running.getId(), ImportJobStatusEnum.COMPLETED);
+  }
+
+  @Test
+  public void testProgressIsCountedPerChunk() throws Exception {
+    doAnswer(
+            invocation -> {
+              Consumer<List<AccountCsvRecord>> onChunk = invocation.getArgument(3);
+              onChunk.accept(List.of(record("SUCCESS"), record("ERROR"), record("SUCCESS")));
+              onChunk.accept(List.of(record("ERROR")));
+              return null;
+            })
+        .when(csvImportService)
+        .importCsv(any(), any(OutputStream.class), any(), any());
+    importJobService = service();
+
+    ImportJob job = importJobService.submit(upload(), ImportEngineEnum.JPA);
+
+    ImportJob finished = awaitStatus(job.getId(), ImportJobStatusEnum.COMPLETED);
+    assertEquals(4, finished.getRowsProcessed());
+    assertEquals(2, finished.getRowsSucceeded());
+    assertEquals(2, finished.getRowsFailed());
+  }
+
+  @Test
+  public void testResultIsNotAvailableBeforeCompletion() throws Exception {
+    importJobService = service();
+    ImportJob job = job(ImportJobStatusEnum.RUNNING, "other-node", Instant.now());
+
+    assertThrows(
+        ImportJobNotFinishedException.class, () -> importJobService.getCompleted(job.getId()));
+  }
+
+  @Test
+  public void testResultIsCopiedFromTheStore() throws Exception {
+    importJobService = service();
+    ImportJob job = job(ImportJobStatusEnum.COMPLETED, "other-node", Instant.now());
+    when(fileStore.copy(eq(job.getId()), eq(ImportFileStore.File.RESULT), any(OutputStream.class)))
+        .thenAnswer(
+            invocation -> {
+              invocation
+                  .<OutputStream>getArgument(2)
+                  .write("result".getBytes(StandardCharsets.UTF_8));
+              return true;
+            });
+
+    assertEquals(job.getId(), importJobService.getCompleted(job.getId()).getId());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    importJobService.writeResult(job.getId(), output);
+
+    assertEquals("result", output.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStaleJobsAreTakenOver() throws Exception {
+    importJobService = service();
+    Instant longAgo = Instant.now().minusSeconds(600);
+    ImportJob queued = job(ImportJobStatusEnum.QUEUED, "stopped-node", longAgo);
+    ImportJob running = job(ImportJobStatusEnum.RUNNING, "stopped-node", longAgo);
+    ImportJob uploading = job(ImportJobStatusEnum.UPLOADING, "stopped-node", longAgo);
+    ImportJob claimedElsewhere = job(ImportJobStatusEnum.QUEUED, "stopped-node", longAgo);
+    when(repository.findStale(anyList(), any(Instant.class)))
+        .thenReturn(
+            List.of(copy(queued), copy(running), copy(uploading), copy(claimedElsewhere)));
+    when(repository.claim(any(UUID.class), anyString(), any(Instant.class), anyString(), any()))
+        .thenAnswer(
+            invocation -> {
+              UUID id = invocation.getArgument(0);
+              if (id.equals(claimedElsewhere.getId())) {
+                return 0;
+              }
+              jobs.get(id).setOwner(invocation.getArgument(3));
+              return 1;
+            });
+
+    importJobService.reclaimStaleJobs();
+
+    awaitStatus(queued.getId(), ImportJobStatusEnum.COMPLETED);
+    ImportJob failed = jobs.get(running.getId());
+    assertEquals(ImportJobStatusEnum.FAILED.name(), failed.getStatus());
+    assertNotNull(failed.getErrorMessage());
+    verify(fileStore).delete(running.getId(), ImportFileStore.File.INPUT);
+    ImportJob interrupted = jobs.get(uploading.getId());
+    assertEquals(ImportJobStatusEnum.FAILED.name(), interrupted.getStatus());
+    assertEquals(
+        "Upload interrupted: the node receiving it stopped", interrupted.getErrorMessage());
+    verify(fileStore).delete(uploading.getId(), ImportFileStore.File.INPUT);
+    assertEquals(ImportJobStatusEnum.QUEUED.name(), jobs.get(claimedElsewhere.getId()).getStatus());
+    verify(csvImportService, times(1)).importCsv(any(), any(OutputStream.class), any(), any());
+  }
+
+  @Test
+  public void testJobTakenOverDuringTheRunStaysFailed() throws Exception {
+    doAnswer(
+            invocation -> {
+              Consumer<List<AccountCsvRecord>> onChunk = invocation.getArgument(3);
+              onChunk.accept(List.of(record("SUCCESS")));
+              // This node stalled past stale-after: another node claimed the job and failed it.
+              ImportJob job = jobs.values().iterator().next();
+              job.setOwner("other-node");
+              job.setStatus(ImportJobStatusEnum.FAILED.name());
+              job.setErrorMessage("Import interrupted: the node running it stopped");
+              onChunk.accept(List.of(record("SUCCESS")));
+              return null;
+            })
+        .when(csvImportService)
+        .importCsv(any(), any(OutputStream.class), any(), any());
+    importJobService = service();
+
+    ImportJob job = importJobService.submit(upload(), ImportEngineEnum.JPA);
+
+    verify(fileStore, timeout(TIMEOUT_MILLIS)).delete(job.getId(), ImportFileStore.File.INPUT);
+    ImportJob taken = jobs.get(job.getId());
+    assertEquals(ImportJobStatusEnum.FAILED.name(), taken.getStatus());
+    assertEquals("other-node", taken.getOwner());
+    assertEquals("Import interrupted: the node running it stopped", taken.getErrorMessage());
+    assertEquals(1, taken.getRowsProcessed());
+    verify(fileStore, never())
+        .store(eq(job.getId()), eq(ImportFileStore.File.RESULT), any(InputStream.class));
+  }
+
+  @Test
+  public void testJobIsUploadingAndHeartbeatingWhileItsUploadIsStored() throws Exception {
+    importJobService = service();
+    doAnswer(
+            invocation -> {
+              UUID id = invocation.getArgument(0);
+              assertEquals(ImportJobStatusEnum.UPLOADING.name(), jobs.get(id).getStatus());
+              importJobService.heartbeat();
+              return null;
+            })
+        .when(fileStore)
+        .store(any(UUID.class), eq(ImportFileStore.File.INPUT), any(InputStream.class));
+
+    ImportJob job = importJobService.submit(upload(), ImportEngineEnum.JPA);
+
+    verify(repository).heartbeat(eq(List.of(job.getId())), eq(job.getOwner()), any(Instant.class));
+    awaitStatus(job.getId(), ImportJobStatusEnum.COMPLETED);
+  }
+
+  @Test
+  public void testHeartbeatCoversOnlyOwnJobs() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    doAnswer(
+            invocation -> {
+              release.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+              return null;
+            })
+        .when(csvImportService)
+        .importCsv(any(), any(OutputStream.class), any(), any());
+    importJobService = service();
+    ImportJob job = importJobService.submit(upload(), ImportEngineEnum.JPA);
+
+    importJobService.heartbeat();
+
+    verify(repository).heartbeat(eq(List.of(job.getId())), eq(job.getOwner()), any(Instant.class));
+    release.countDown();
+    awaitStatus(job.getId(), ImportJobStatusEnum.COMPLETED);
+  }
+
+  private ImportJobService service() throws Exception {
+    return new ImportJobService(
+        repository,
+        fileStore,
+        new CsvParserService(),
+        csvImportService,
+        importProperties,
+        new MockEnvironment());
+  }
+
+  private MockMultipartFile upload() {
+    return new MockMultipartFile(
+        "file", "accounts.csv", "text/csv", CSV.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private ImportJob job(ImportJobStatusEnum status, String owner, Instant heartbeatAt) {
+    ImportJob job = new ImportJob();
+    job.setId(UUID.randomUUID());
+    job.setStatus(status.name());
+    job.setEngine(ImportEngineEnum.JPA.name());
+    job.setCreatedAt(heartbeatAt);
+    job.setOwner(owner);
+    job.setHeartbeatAt(heartbeatAt);
+    jobs.put(job.getId(), job);
+    return job;
+  }
+
+  /** Applies {@code change} the way the conditional UPDATEs do. */
+  private int update(
+      UUID id, String owner, ImportJobStatusEnum from, Consumer<ImportJob> change) {
+    synchronized (jobs) {
+      ImportJob job = jobs.get(id);
+      if (job == null || !owner.equals(job.getOwner()) || !from.name().equals(job.getStatus())) {
+        return 0;
+      }
+      change.accept(job);
+      return 1;
+    }
+  }
+
+  private ImportJob awaitStatus(UUID id, ImportJobStatusEnum status) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    while (System.currentTimeMillis() < deadline) {
+      ImportJob job = jobs.get(id);
+      if (job != null && status.name().equals(job.getStatus())) {
+        return job;
+      }
+      Thread.sleep(10);
+    }
+    fail("Import job " + id + " did not reach " + status + ": " + jobs.get(id));
+    return null;
+  }
+
+  private AccountCsvRecord record(String importStatus) {
+    AccountCsvRecord record = new AccountCsvRecord();
+    record.setImportStatus(importStatus);
+    return record;
+  }
+
+  private ImportJob copy(ImportJob job) {
+    ImportJob copy = new ImportJob();
+    copy.setId(job.getId());
+    copy.setStatus(job.getStatus());
+    copy.setEngine(job.getEngine());
+    copy.setFileName(job.getFileName());
+    copy.setRowsProcessed(job.getRowsProcessed());
+    copy.setRowsSucceeded(job.getRowsSucceeded());
+    copy.setRowsFailed(job.getRowsFailed());
+    copy.setErrorMessage(job.getErrorMessage());
+    copy.setCreatedAt(job.getCreatedAt());
+    copy.setStartedAt(job.getStartedAt());
+    copy.setFinishedAt(job.getFinishedAt());
+    copy.setOwner(job.getOwner());
+    copy.setHeartbeatAt(job.getHeartbeatAt());
+    return copy;
+  }
+}
@@ -0,0 +1,98 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/** Runs the set-based bulk statements against PostgreSQL, interleaved with JPA inserts. */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class AccountBulkWriteTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+  @Autowired private AccountRepository accountRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    accountRepository.deleteAllInBatch();
+  }
+
+  @Test
+  public void testInsertAllAssignsIdsInInputOrderWithoutCollidingWithJpa() {
+    for (int round = 0; round < 3; round++) {
+      accountRepository.save(account("Jpa " + round, null));
+
+      List<Account> accounts = new ArrayList<>();
+      for (int i = 0; i < 120; i++) {
+        accounts.add(account("Bulk " + round + "-" + i, i % 2 == 0 ? DAY : null));
+      }
+      accountRepository.insertAll(accounts);
+
+      for (Account account : accounts) {
+        assertNotNull(account.getId());
+        assertEquals(
+            account.getDescription(),
+            jdbcTemplate.queryForObject(
+                "SELECT descricao FROM contas WHERE id = ?", String.class, account.getId()));
+      }
+      Account stored = accountRepository.findById(accounts.get(1).getId()).orElseThrow();
+      assertNull(stored.getPaymentDate());
+      assertEquals(0, new BigDecimal("10.25").compareTo(stored.getAmount()));
+    }
+
+    assertEquals(363, accountRepository.count());
+  }
+
+  @Test
+  public void testUpdateStatusAndDeleteReturnOnlyExistingIds() {
+    List<Account> accounts = new ArrayList<>(List.of(account("A", null), account("B", null)));
+    accountRepository.insertAll(accounts);
+    Long first = accounts.get(0).getId();
+    Long second = accounts.get(1).getId();
+
+    assertEquals(
+        List.of(first), accountRepository.updateStatusWhereIdIn(List.of(first, -1L), "PAGO", DAY));
+    assertEquals(
+        List.of(second), accountRepository.updateStatusWhereIdIn(List.of(second), "PAGO", null));
+
+    Account paid = accountRepository.findById(first).orElseThrow();
+    assertEquals("PAGO", paid.getStatus());
+    assertEquals(DAY, paid.getPaymentDate());
+    assertNull(accountRepository.findById(second).orElseThrow().getPaymentDate());
+
+    assertEquals(List.of(first), accountRepository.deleteWhereIdIn(List.of(first, -1L)));
+    assertEquals(1, accountRepository.count());
+  }
+
+  private Account account(String description, LocalDate paymentDate) {
+    Account account = new Account();
+    account.setAmount(new BigDecimal("10.25"));
+    account.setDueDate(DAY);
+    account.setPaymentDate(paymentDate);
+    account.setDescription(description);
+    account.setStatus(paymentDate != null ? "PAGO" : "PENDENTE");
+    return account;
+  }
+}
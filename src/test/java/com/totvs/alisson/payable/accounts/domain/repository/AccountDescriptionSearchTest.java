@@ -0,0 +1,125 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Checks on a PostgreSQL with a realistic row count that description search uses the index. */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class AccountDescriptionSearchTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static final int ROWS = 200_000;
+
+  @Autowired private AccountRepository repository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    if (repository.count() > ROWS) {
+      return;
+    }
+
+    repository.deleteAllInBatch();
+    jdbcTemplate.update(
+        "INSERT INTO contas (id, valor, data_vencimento, descricao, situacao)"
+            + " SELECT nextval('contas_id_seq'), 100, DATE '2024-01-01' + (i % 365),"
+            + " 'Fornecedor ' || i || ' - nota ' || md5(i::text), 'PENDENTE'"
+            + " FROM generate_series(1, ?) AS i",
+        ROWS);
+    jdbcTemplate.update(
+        "INSERT INTO contas (id, valor, data_vencimento, descricao, situacao) VALUES"
+            + " (nextval('contas_id_seq'), 50, DATE '2024-06-01', 'Desconto de 50% na nota', 'PAGO'),"
+            + " (nextval('contas_id_seq'), 50, DATE '2024-06-01', 'Desconto de 500 na nota', 'PAGO'),"
+            + " (nextval('contas_id_seq'), 80, DATE '2024-06-01', 'Pagamento de energia', 'PAGO'),"
+            + " (nextval('contas_id_seq'), 80, DATE '2024-06-01', 'Pagamentos de energia e energia"
+            + " solar', 'PAGO')");
+    jdbcTemplate.execute("ANALYZE contas");
+  }
+
+  @Test
+  public void testDescriptionFilterUsesTrigramIndex() {
+    String plan =
+        String.join(
+            "\n",
+            jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM contas WHERE lower(descricao) LIKE ? ESCAPE '"
+                    + AccountRepository.LIKE_ESCAPE
+                    + "'",
+                String.class,
+                AccountRepository.containsPattern("Fornecedor 12345 ")));
+
+    assertTrue(plan.contains("idx_contas_descricao_trgm"), plan);
+    assertFalse(plan.contains("Seq Scan"), plan);
+  }
+
+  @Test
+  public void testDescriptionFilterMatchesWildcardsLiterally() {
+    List<Account> accounts =
+        repository.findAllFiltered("50%", null, null, Pageable.unpaged()).getContent();
+
+    assertEquals(1, accounts.size());
+    assertEquals("Desconto de 50% na nota", accounts.get(0).getDescription());
+  }
+
+  @Test
+  public void testEstimatedCountUsesSameFilter() {
+    long estimate = repository.estimateCount("Fornecedor 12345 ", null, null);
+
+    assertTrue(estimate < ROWS / 10, "estimate " + estimate);
+  }
+
+  @Test
+  public void testFullTextSearchRanksAndPaginates() {
+    List<RankedAccount> firstPage = repository.search("pagamentos energia", null, null, 1);
+    RankedAccount best = firstPage.get(0);
+    List<RankedAccount> secondPage =
+        repository.search("pagamentos energia", best.getRank(), best.getAccount().getId(), 10);
+
+    assertEquals("Pagamentos de energia e energia solar", best.getAccount().getDescription());
+    assertEquals(1, secondPage.size());
+    assertEquals("Pagamento de energia", secondPage.get(0).getAccount().getDescription());
+  }
+
+  @Test
+  public void testFullTextSearchUsesIndex() {
+    RankedAccount best = repository.search("energia", null, null, 1).get(0);
+
+    String firstPage = explain(AccountRepositoryCustomImpl.searchSql(false), "energia", 20);
+    String nextPage =
+        explain(
+            AccountRepositoryCustomImpl.searchSql(true),
+            "energia",
+            best.getRank(),
+            best.getRank(),
+            best.getAccount().getId(),
+            20);
+
+    assertTrue(firstPage.contains("idx_contas_descricao_tsv"), firstPage);
+    assertFalse(firstPage.contains("Seq Scan"), firstPage);
+    assertTrue(nextPage.contains("idx_contas_descricao_tsv"), nextPage);
+    assertFalse(nextPage.contains("Seq Scan"), nextPage);
+  }
+
+  private String explain(String sql, Object... args) {
+    return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+  }
+}
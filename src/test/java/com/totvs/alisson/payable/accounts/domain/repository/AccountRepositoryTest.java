@@ -11,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -21,17 +22,17 @@ public class AccountRepositoryTest {
   @Mock private AccountRepository accountRepository;
 
   @Test
-  public void testFindTotalPaidInPeriod() {
+  public void testSummarizePaidInPeriod() {
     LocalDate startDate = LocalDate.of(2023, 1, 1);
     LocalDate endDate = LocalDate.of(2023, 12, 31);
-    Double expectedTotal = 1000.0;
+    List<PaidSummaryRow> expectedRows = Collections.emptyList();
 
-    when(accountRepository.findTotalPaidInPeriod(startDate, endDate)).thenReturn(expectedTotal);
+    when(accountRepository.summarizePaidInPeriod(startDate, endDate)).thenReturn(expectedRows);
 
-    Double actualTotal = accountRepository.findTotalPaidInPeriod(startDate, endDate);
+    List<PaidSummaryRow> actualRows = accountRepository.summarizePaidInPeriod(startDate, endDate);
 
-    assertEquals(expectedTotal, actualTotal);
-    verify(accountRepository, times(1)).findTotalPaidInPeriod(startDate, endDate);
+    assertEquals(expectedRows, actualRows);
+    verify(accountRepository, times(1)).summarizePaidInPeriod(startDate, endDate);
   }
 
   @Test
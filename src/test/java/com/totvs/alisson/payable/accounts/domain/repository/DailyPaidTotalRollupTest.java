@@ -0,0 +1,148 @@
+package com.totvs.alisson.payable.accounts.domain.repository;
+
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.entity.DailyPaidTotal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Checks that the triggers on contas keep contas_pagas_diario in step with every kind of write. */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class DailyPaidTotalRollupTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+  @Autowired private AccountRepository accountRepository;
+
+  @Autowired private DailyPaidTotalRepository dailyPaidTotalRepository;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @BeforeEach
+  public void setUp() {
+    accountRepository.deleteAllInBatch();
+  }
+
+  @Test
+  public void testRollupFollowsInsertsUpdatesAndDeletes() {
+    List<Account> accounts = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      accounts.add(account(DAY.plusDays(i % 3), "10.50"));
+    }
+    accounts.add(account(null, "99.00"));
+    accounts = accountRepository.saveAll(accounts);
+
+    assertEquals(3, dailyPaidTotalRepository.count());
+    assertEquals(
+        new BigDecimal("105.00"),
+        dailyPaidTotalRepository.findTotalPaidInPeriod(DAY, DAY.plusDays(2)));
+
+    Account moved = accounts.get(0);
+    moved.setPaymentDate(DAY.plusDays(30));
+    moved.setAmount(new BigDecimal("1.00"));
+    accountRepository.save(moved);
+    jdbcTemplate.update("UPDATE contas SET situacao = 'PAGO'");
+    jdbcTemplate.update(
+        "UPDATE contas SET valor = valor + 1 WHERE data_pagamento = ?", DAY.plusDays(1));
+
+    DailyPaidTotal day = dailyPaidTotalRepository.findById(DAY).orElseThrow();
+    assertEquals(3, day.getCount());
+    assertEquals(0, new BigDecimal("31.50").compareTo(day.getTotal()));
+    assertTrue(dailyPaidTotalRepository.findMismatches().isEmpty());
+
+    jdbcTemplate.update(
+        "UPDATE contas SET data_pagamento = NULL WHERE data_pagamento = ?", DAY.plusDays(1));
+
+    assertTrue(dailyPaidTotalRepository.findById(DAY.plusDays(1)).isEmpty());
+    assertTrue(dailyPaidTotalRepository.findById(DAY).isPresent());
+
+    jdbcTemplate.update("DELETE FROM contas WHERE data_pagamento = ?", DAY.plusDays(2));
+
+    assertTrue(dailyPaidTotalRepository.findById(DAY.plusDays(2)).isEmpty());
+    assertTrue(dailyPaidTotalRepository.findMismatches().isEmpty());
+  }
+
+  @Test
+  public void testCheckFindsDriftAndRebuildRepairsIt() {
+    accountRepository.saveAll(List.of(account(DAY, "10.00"), account(DAY.plusDays(1), "20.00")));
+    jdbcTemplate.update(
+        "UPDATE contas_pagas_diario SET valor_total = 0 WHERE data_pagamento = ?", DAY);
+
+    List<RollupMismatch> mismatches = dailyPaidTotalRepository.findMismatches();
+    assertEquals(1, mismatches.size());
+    assertEquals(DAY, mismatches.get(0).getPaymentDate());
+
+    assertEquals(2, dailyPaidTotalRepository.rebuild());
+    assertTrue(dailyPaidTotalRepository.findMismatches().isEmpty());
+  }
+
+  @Test
+  public void testPaidSummaryIsExactAndIndexOnly() {
+    jdbcTemplate.update(
+        "INSERT INTO contas (id, valor, data_vencimento, data_pagamento, descricao, situacao)"
+            + " SELECT nextval('contas_id_seq'), 0.10 + (i % 100), ?, ? + (i % 1000),"
+            + " 'Conta ' || i, CASE WHEN i % 4 = 0 THEN 'PENDENTE' ELSE 'PAGO' END"
+            + " FROM generate_series(1, 100000) AS i",
+        DAY,
+        DAY);
+    jdbcTemplate.execute("VACUUM ANALYZE contas");
+
+    List<PaidSummaryRow> rows = accountRepository.summarizePaidInPeriod(DAY, DAY.plusDays(29));
+    PaidSummaryRow overall = rows.get(rows.size() - 1);
+    BigDecimal expectedTotal =
+        jdbcTemplate.queryForObject(
+            "SELECT SUM(valor) FROM contas WHERE data_pagamento BETWEEN ? AND ?",
+            BigDecimal.class,
+            DAY,
+            DAY.plusDays(29));
+
+    assertTrue(overall.isOverall());
+    assertEquals(3000, overall.getCount());
+    assertEquals(expectedTotal, overall.getTotal());
+    assertEquals(new BigDecimal("0.10"), overall.getMin());
+    assertEquals(
+        List.of("PAGO", "PENDENTE"),
+        rows.subList(0, 2).stream().map(PaidSummaryRow::getStatus).toList());
+    assertEquals(3000, rows.get(0).getCount() + rows.get(1).getCount());
+
+    String plan =
+        String.join(
+            "\n",
+            jdbcTemplate.queryForList(
+                "EXPLAIN SELECT situacao, COUNT(*), SUM(valor), MIN(valor), MAX(valor) FROM contas"
+                    + " WHERE data_pagamento BETWEEN ? AND ?"
+                    + " GROUP BY GROUPING SETS ((situacao), ())",
+                String.class,
+                DAY,
+                DAY.plusDays(29)));
+    assertTrue(plan.contains("Index Only Scan using idx_contas_pagamento_valor_situacao"), plan);
+  }
+
+  private Account account(LocalDate paymentDate, String amount) {
+    Account account = new Account();
+    account.setAmount(new BigDecimal(amount));
+    account.setDueDate(DAY);
+    account.setPaymentDate(paymentDate);
+    account.setDescription("Conta");
+    account.setStatus(paymentDate != null ? "PAGO" : "PENDENTE");
+    return account;
+  }
+}
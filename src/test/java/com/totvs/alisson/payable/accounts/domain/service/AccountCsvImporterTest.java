@@ -0,0 +1,149 @@
+package com.totvs.alisson.payable.accounts.domain.service;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.config.ImportProperties;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.repository.AccountRepository;
+import com.totvs.alisson.payable.accounts.domain.validation.AccountValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class AccountCsvImporterTest {
+
+  @Mock private AccountRepository repository;
+
+  @Mock private AccountValidator validator;
+
+  @Spy private ImportProperties importProperties = new ImportProperties();
+
+  @Spy private Environment environment = new MockEnvironment();
+
+  @Spy private MeterRegistry registry = new SimpleMeterRegistry();
+
+  @InjectMocks private AccountCsvImporter accountCsvImporter;
+
+  @Test
+  public void testSaveAll() {
+    AccountCsvRecord record = new AccountCsvRecord();
+    record.setAmount(BigDecimal.valueOf(100.0));
+    record.setDueDate(LocalDate.now());
+    record.setDescription("Test Description");
+    record.setStatus("PENDENTE");
+
+    List<AccountCsvRecord> records = Collections.singletonList(record);
+
+    when(validator.validate(any(AccountRequest.class))).thenReturn(Collections.emptyList());
+
+    List<AccountCsvRecord> processedRecords = accountCsvImporter.saveAll(records);
+
+    assertNotNull(processedRecords);
+    assertEquals(1, processedRecords.size());
+    assertEquals("SUCCESS", processedRecords.get(0).getImportStatus());
+    verify(repository, times(1)).saveAll(anyList());
+    verify(repository, never()).save(any(Account.class));
+  }
+
+  @Test
+  public void testSaveAllSplitsBatches() {
+    importProperties.setBatchSize(2);
+    List<AccountCsvRecord> records =
+        List.of(csvRecord("First"), csvRecord("Second"), csvRecord("Third"));
+
+    when(validator.validate(any(AccountRequest.class))).thenReturn(Collections.emptyList());
+
+    List<AccountCsvRecord> processedRecords = accountCsvImporter.saveAll(records);
+
+    assertTrue(processedRecords.stream().allMatch(r -> "SUCCESS".equals(r.getImportStatus())));
+    verify(repository, times(2)).saveAll(anyList());
+  }
+
+  @Test
+  public void testSaveAllFallsBackToSingleSavesWhenBatchFails() {
+    AccountCsvRecord valid = csvRecord("Valid");
+    AccountCsvRecord rejected = csvRecord("Rejected");
+
+    when(validator.validate(any(AccountRequest.class))).thenReturn(Collections.emptyList());
+    when(repository.saveAll(anyList())).thenThrow(new RuntimeException("batch failed"));
+    when(repository.save(any(Account.class)))
+        .thenAnswer(
+            invocation -> {
+              Account account = invocation.getArgument(0);
+              if ("Rejected".equals(account.getDescription())) {
+                throw new RuntimeException("constraint violation");
+              }
+              return account;
+            });
+
+    accountCsvImporter.saveAll(List.of(valid, rejected));
+
+    assertEquals("SUCCESS", valid.getImportStatus());
+    assertEquals("ERROR", rejected.getImportStatus());
+    verify(repository, times(2)).save(any(Account.class));
+    assertEquals(1, importedRows("imported"));
+    assertEquals(1, importedRows("failed"));
+  }
+
+  @Test
+  public void testSaveAllKeepsRowOrderAcrossParallelWriters() {
+    importProperties.setBatchSize(3);
+    List<AccountCsvRecord> records = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      records.add(csvRecord(i % 5 == 0 ? "Invalid " + i : "Valid " + i));
+    }
+
+    when(validator.validate(any(AccountRequest.class)))
+        .thenAnswer(
+            invocation -> {
+              AccountRequest request = invocation.getArgument(0);
+              return request.getDescription().startsWith("Invalid")
+                  ? List.of("Description is invalid")
+                  : Collections.emptyList();
+            });
+
+    List<AccountCsvRecord> processedRecords = accountCsvImporter.saveAll(records);
+
+    assertEquals(records, processedRecords);
+    for (int i = 0; i < processedRecords.size(); i++) {
+      assertEquals(i % 5 == 0 ? "ERROR" : "SUCCESS", processedRecords.get(i).getImportStatus());
+    }
+    verify(repository, times(14)).saveAll(anyList());
+    assertEquals(40, importedRows("imported"));
+    assertEquals(10, importedRows("invalid"));
+    assertEquals(0, importedRows("failed"));
+    assertEquals(1, registry.get(AccountCsvImporter.IMPORT_THROUGHPUT).summary().count());
+  }
+
+  private double importedRows(String outcome) {
+    return registry.get(AccountCsvImporter.IMPORT_ROWS).tag("outcome", outcome).counter().count();
+  }
+
+  private AccountCsvRecord csvRecord(String description) {
+    AccountCsvRecord record = new AccountCsvRecord();
+    record.setAmount(BigDecimal.valueOf(100.0));
+    record.setDueDate(LocalDate.now());
+    record.setDescription(description);
+    record.setStatus("PENDENTE");
+    return record;
+  }
+}
@@ -1,27 +1,48 @@
 package com.totvs.alisson.payable.accounts.domain.service;
 
-import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.dto.AccountCursor;
 import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.application.dto.CursorPage;
+import com.totvs.alisson.payable.accounts.application.dto.SearchCursor;
+import com.totvs.alisson.payable.accounts.application.dto.SlicePage;
+import com.totvs.alisson.payable.accounts.application.dto.BulkItemResult;
+import com.totvs.alisson.payable.accounts.config.BulkProperties;
+import com.totvs.alisson.payable.accounts.config.ListingProperties;
 import com.totvs.alisson.payable.accounts.domain.entity.Account;
 import com.totvs.alisson.payable.accounts.domain.enums.AccountStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.enums.TotalModeEnum;
 import com.totvs.alisson.payable.accounts.domain.exception.AccountNotFoundException;
+import com.totvs.alisson.payable.accounts.domain.exception.BulkLimitExceededException;
 import com.totvs.alisson.payable.accounts.domain.factory.AccountFactory;
 import com.totvs.alisson.payable.accounts.domain.repository.AccountRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.DailyPaidTotalRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.RankedAccount;
 import com.totvs.alisson.payable.accounts.domain.validation.AccountValidator;
+import com.totvs.alisson.payable.accounts.infrastructure.cache.AccountCacheInvalidationBus;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,8 +50,19 @@ public class AccountServiceTest {
 
   @Mock private AccountRepository repository;
 
+  @Mock private DailyPaidTotalRepository dailyPaidTotalRepository;
+
   @Mock private AccountValidator validator;
 
+  @Mock private AccountCacheInvalidationBus invalidationBus;
+
+  @Spy private ListingProperties listingProperties = new ListingProperties();
+
+  @Spy private BulkProperties bulkProperties = new BulkProperties();
+
+  @Spy
+  private CacheManager cacheManager = new ConcurrentMapCacheManager(AccountService.ACCOUNT_CACHE);
+
   @InjectMocks private AccountService accountService;
 
   @Test
@@ -60,19 +92,37 @@ public class AccountServiceTest {
     request.setDescription("Updated Description");
     request.setStatus("PENDENTE");
 
-    Account existingAccount = new Account();
-    existingAccount.setId(id);
-
-    when(repository.findById(id)).thenReturn(Optional.of(existingAccount));
-    when(repository.save(any(Account.class))).thenReturn(existingAccount);
+    when(repository.updateReturning(eq(id), any(Account.class)))
+        .thenAnswer(
+            invocation -> {
+              Account stored = AccountFactory.copyOf(invocation.getArgument(1));
+              stored.setId(id);
+              return Optional.of(stored);
+            });
 
     Account updatedAccount = accountService.update(id, request);
 
     assertNotNull(updatedAccount);
     assertEquals(id, updatedAccount.getId());
-    verify(repository, times(1)).save(any(Account.class));
+    assertEquals("Updated Description", updatedAccount.getDescription());
+    verify(repository, times(1)).updateReturning(eq(id), any(Account.class));
+    verify(repository, never()).findById(any());
+    verify(repository, never()).save(any());
   }
 
+  @Test
+  public void testUpdateAccountNotFound() {
+    AccountRequest request = new AccountRequest();
+    request.setAmount(BigDecimal.valueOf(200.0));
+    request.setDueDate(LocalDate.now());
+    request.setStatus("PENDENTE");
+
+    when(repository.updateReturning(eq(1L), any(Account.class))).thenReturn(Optional.empty());
+
+    assertThrows(AccountNotFoundException.class, () -> accountService.update(1L, request));
+  }
+
+
   @Test
   public void testGetAccountById() {
     Long id = 1L;
@@ -98,69 +148,294 @@ public class AccountServiceTest {
     verify(repository, times(1)).findById(id);
   }
 
+  @Test
+  public void testGetAccountByIdIsCached() {
+    Long id = 1L;
+    Account account = new Account();
+    account.setId(id);
+    account.setStatus("PENDENTE");
+
+    when(repository.findById(id)).thenReturn(Optional.of(account));
+
+    accountService.getById(id).setStatus("PAGO");
+    Account foundAccount = accountService.getById(id);
+
+    assertEquals("PENDENTE", foundAccount.getStatus());
+    verify(repository, times(1)).findById(id);
+  }
+
+  @Test
+  public void testWritesRefreshAndEvictCachedAccount() {
+    Long id = 1L;
+    Account account = new Account();
+    account.setId(id);
+    account.setStatus("PAGO");
+
+    when(repository.updateStatusReturning(id, "PAGO")).thenReturn(Optional.of(account));
+    when(repository.deleteAccount(id)).thenReturn(1);
+
+    accountService.updateStatus(id, AccountStatusEnum.PAGO);
+    assertEquals("PAGO", accountService.getById(id).getStatus());
+    verify(repository, never()).findById(id);
+
+    accountService.delete(id);
+    when(repository.findById(id)).thenReturn(Optional.empty());
+    assertThrows(AccountNotFoundException.class, () -> accountService.getById(id));
+    verify(invalidationBus, times(2)).publish(List.of(id));
+  }
+
+
   @Test
   public void testUpdateAccountStatus() {
     Long id = 1L;
     AccountStatusEnum status = AccountStatusEnum.PAGO;
     Account account = new Account();
     account.setId(id);
+    account.setStatus(status.name());
 
-    when(repository.findById(id)).thenReturn(Optional.of(account));
-    when(repository.save(any(Account.class))).thenReturn(account);
+    when(repository.updateStatusReturning(id, status.name())).thenReturn(Optional.of(account));
 
     Account updatedAccount = accountService.updateStatus(id, status);
 
     assertNotNull(updatedAccount);
     assertEquals(status.name(), updatedAccount.getStatus());
-    verify(repository, times(1)).save(any(Account.class));
+    verify(repository, times(1)).updateStatusReturning(id, status.name());
+    verify(repository, never()).findById(any());
+  }
+
+  @Test
+  public void testUpdateAccountStatusNotFound() {
+    when(repository.updateStatusReturning(1L, "PAGO")).thenReturn(Optional.empty());
+
+    assertThrows(
+        AccountNotFoundException.class,
+        () -> accountService.updateStatus(1L, AccountStatusEnum.PAGO));
   }
 
+
   @Test
   public void testGetTotalPaid() {
     LocalDate startDate = LocalDate.of(2023, 1, 1);
     LocalDate endDate = LocalDate.of(2023, 12, 31);
-    Double expectedTotal = 1000.0;
+    BigDecimal expectedTotal = new BigDecimal("1000000000.10");
 
-    when(repository.findTotalPaidInPeriod(startDate, endDate)).thenReturn(expectedTotal);
+    when(dailyPaidTotalRepository.findTotalPaidInPeriod(startDate, endDate))
+        .thenReturn(expectedTotal);
 
-    Double actualTotal = accountService.getTotalPaid(startDate, endDate);
+    BigDecimal actualTotal = accountService.getTotalPaid(startDate, endDate);
 
     assertEquals(expectedTotal, actualTotal);
-    verify(repository, times(1)).findTotalPaidInPeriod(startDate, endDate);
+    verify(dailyPaidTotalRepository, times(1)).findTotalPaidInPeriod(startDate, endDate);
+  }
+
+  @Test
+  public void testGetTotalPaidWithoutPayments() {
+    LocalDate startDate = LocalDate.of(2023, 1, 1);
+    LocalDate endDate = LocalDate.of(2023, 12, 31);
+
+    when(dailyPaidTotalRepository.findTotalPaidInPeriod(startDate, endDate)).thenReturn(null);
+
+    assertEquals(BigDecimal.ZERO, accountService.getTotalPaid(startDate, endDate));
   }
 
   @Test
   public void testDeleteAccount() {
     Long id = 1L;
-    Account account = new Account();
-    account.setId(id);
 
-    when(repository.findById(id)).thenReturn(Optional.of(account));
-    doNothing().when(repository).deleteById(id);
+    when(repository.deleteAccount(id)).thenReturn(1);
 
     accountService.delete(id);
 
-    verify(repository, times(1)).deleteById(id);
+    verify(repository, times(1)).deleteAccount(id);
+    verify(repository, never()).findById(any());
   }
 
   @Test
-  public void testSaveAllFromCsv() {
-    AccountCsvRecord record = new AccountCsvRecord();
-    record.setAmount(BigDecimal.valueOf(100.0));
-    record.setDueDate(LocalDate.now());
-    record.setDescription("Test Description");
-    record.setStatus("PENDENTE");
+  public void testDeleteAccountNotFound() {
+    when(repository.deleteAccount(1L)).thenReturn(0);
 
-    List<AccountCsvRecord> records = Collections.singletonList(record);
+    assertThrows(AccountNotFoundException.class, () -> accountService.delete(1L));
+    verify(invalidationBus, never()).publish(any());
+  }
 
-    when(validator.validate(any(AccountRequest.class))).thenReturn(Collections.emptyList());
-    when(repository.save(any(Account.class))).thenReturn(new Account());
 
-    List<AccountCsvRecord> processedRecords = accountService.saveAllFromCsv(records);
+  @Test
+  public void testFindAllByCursor() {
+    Account first = new Account();
+    first.setId(7L);
+    first.setDueDate(LocalDate.of(2030, 1, 1));
+    Account second = new Account();
+    second.setId(9L);
+    second.setDueDate(LocalDate.of(2030, 1, 2));
+    Account third = new Account();
+    third.setId(3L);
+    third.setDueDate(LocalDate.of(2030, 1, 3));
+    AccountCursor cursor = new AccountCursor(LocalDate.of(2029, 12, 31), 5L);
+
+    when(repository.findAllFilteredAfter(null, null, null, cursor.getDueDate(), 5L, 3))
+        .thenReturn(List.of(first, second, third));
+
+    CursorPage<Account> page = accountService.findAllByCursor(null, null, null, cursor, 2, false);
+
+    assertEquals(List.of(first, second), page.getContent());
+    assertTrue(page.isHasNext());
+    AccountCursor next = AccountCursor.decode(page.getNextCursor());
+    assertEquals(second.getDueDate(), next.getDueDate());
+    assertEquals(9L, next.getId());
+    assertNull(page.getTotalElements());
+    verify(repository, never()).countFiltered(any(), any(), any());
+  }
 
-    assertNotNull(processedRecords);
-    assertEquals(1, processedRecords.size());
-    assertEquals("SUCCESS", processedRecords.get(0).getImportStatus());
-    verify(repository, times(1)).save(any(Account.class));
+  @Test
+  public void testFindSliceWithoutTotalDoesNotCount() {
+    PageRequest pageable = PageRequest.of(0, 2);
+    Account account = new Account();
+    when(repository.findSliceFiltered(null, null, null, pageable))
+        .thenReturn(new SliceImpl<>(List.of(account), pageable, true));
+
+    SlicePage<Account> page =
+        accountService.findSlice(null, null, null, pageable, TotalModeEnum.NONE);
+
+    assertEquals(List.of(account), page.getContent());
+    assertTrue(page.isHasNext());
+    assertNull(page.getTotalElements());
+    verify(repository, never()).countFiltered(any(), any(), any());
+    verify(repository, never()).estimateCount(any(), any(), any());
+  }
+
+  @Test
+  public void testFindSliceReusesCachedTotal() {
+    PageRequest pageable = PageRequest.of(0, 2);
+    when(repository.findSliceFiltered(any(), any(), any(), any()))
+        .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+    when(repository.countFiltered("luz", null, null)).thenReturn(42L);
+
+    accountService.findSlice("luz", null, null, pageable, TotalModeEnum.CACHED);
+    SlicePage<Account> page =
+        accountService.findSlice("LUZ", null, null, PageRequest.of(1, 2), TotalModeEnum.CACHED);
+
+    assertEquals(42L, page.getTotalElements());
+    assertEquals("CACHED", page.getTotalMode());
+    verify(repository, times(1)).countFiltered("luz", null, null);
+  }
+
+  @Test
+  public void testFindSliceWithEstimatedTotal() {
+    PageRequest pageable = PageRequest.of(0, 2);
+    when(repository.findSliceFiltered(any(), any(), any(), any()))
+        .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+    when(repository.estimateCount(null, null, null)).thenReturn(1000L);
+
+    SlicePage<Account> page =
+        accountService.findSlice(null, null, null, pageable, TotalModeEnum.ESTIMATED);
+
+    assertEquals(1000L, page.getTotalElements());
+    verify(repository, never()).countFiltered(any(), any(), any());
+  }
+
+  @Test
+  public void testSearchReturnsCursorOfLastRankedAccount() {
+    Account first = new Account();
+    first.setId(3L);
+    Account second = new Account();
+    second.setId(8L);
+    when(repository.search("boleto", 0.5f, 1L, 3))
+        .thenReturn(
+            List.of(
+                new RankedAccount(first, 0.4f),
+                new RankedAccount(second, 0.4f),
+                new RankedAccount(new Account(), 0.1f)));
+
+    CursorPage<Account> page = accountService.search("boleto", new SearchCursor(0.5f, 1L), 2);
+
+    assertEquals(List.of(first, second), page.getContent());
+    assertTrue(page.isHasNext());
+    SearchCursor next = SearchCursor.decode(page.getNextCursor());
+    assertEquals(0.4f, next.getRank());
+    assertEquals(8L, next.getId());
+  }
+
+  @Test
+  public void testSearchWithBlankQueryReturnsNothing() {
+    CursorPage<Account> page = accountService.search(" ", null, 20);
+
+    assertTrue(page.getContent().isEmpty());
+    verify(repository, never()).search(any(), any(), any(), anyInt());
+  }
+
+  @Test
+  public void testCreateAllInsertsValidAccountsInOneCall() {
+    AccountRequest valid = new AccountRequest();
+    valid.setAmount(BigDecimal.TEN);
+    valid.setDueDate(LocalDate.now());
+    valid.setDescription("Valid");
+    valid.setStatus("PENDENTE");
+    AccountRequest invalid = new AccountRequest();
+
+    when(validator.validate(valid)).thenReturn(Collections.emptyList());
+    when(validator.validate(invalid)).thenReturn(List.of("Amount is required"));
+    doAnswer(
+            invocation -> {
+              List<Account> accounts = invocation.getArgument(0);
+              accounts.get(0).setId(7L);
+              accounts.get(1).setId(8L);
+              return null;
+            })
+        .when(repository)
+        .insertAll(anyList());
+
+    List<BulkItemResult> results =
+        accountService.createAll(Arrays.asList(valid, invalid, null, valid));
+
+    assertEquals(
+        List.of("CREATED", "INVALID", "INVALID", "CREATED"),
+        results.stream().map(BulkItemResult::getStatus).toList());
+    assertEquals(7L, results.get(0).getId());
+    assertEquals(8L, results.get(3).getId());
+    assertEquals("Amount is required", results.get(1).getErrorMessage());
+    verify(repository, times(1)).insertAll(anyList());
+    verify(repository, never()).save(any());
+  }
+
+  @Test
+  public void testUpdateStatusAllReportsMissingIdsAndEvicts() {
+    Account cached = new Account();
+    cached.setId(1L);
+    cached.setStatus("PENDENTE");
+    when(repository.findById(1L)).thenReturn(Optional.of(cached));
+    accountService.getById(1L);
+
+    when(repository.updateStatusWhereIdIn(any(), eq("PAGO"), eq(LocalDate.of(2024, 1, 2))))
+        .thenReturn(List.of(1L));
+
+    List<BulkItemResult> results =
+        accountService.updateStatusAll(
+            List.of(1L, 2L), AccountStatusEnum.PAGO, LocalDate.of(2024, 1, 2));
+
+    assertEquals("UPDATED", results.get(0).getStatus());
+    assertEquals("NOT_FOUND", results.get(1).getStatus());
+    assertEquals(2L, results.get(1).getId());
+    assertNull(cacheManager.getCache(AccountService.ACCOUNT_CACHE).get(1L));
+    verify(invalidationBus, times(1)).publish(Set.of(1L));
+  }
+
+  @Test
+  public void testDeleteAllReportsMissingIds() {
+    when(repository.deleteWhereIdIn(any())).thenReturn(List.of(2L));
+
+    List<BulkItemResult> results = accountService.deleteAll(List.of(1L, 2L));
+
+    assertEquals(
+        List.of("NOT_FOUND", "DELETED"), results.stream().map(BulkItemResult::getStatus).toList());
+    verify(invalidationBus, times(1)).publish(Set.of(2L));
+  }
+
+  @Test
+  public void testBulkRequestsAboveTheLimitAreRejected() {
+    bulkProperties.setMaxItems(2);
+
+    assertThrows(
+        BulkLimitExceededException.class, () -> accountService.deleteAll(List.of(1L, 2L, 3L)));
+    verify(repository, never()).deleteWhereIdIn(any());
   }
 }
@@ -0,0 +1,122 @@
+package com.totvs.alisson.payable.accounts.infrastructure.cache;
+
+import com.totvs.alisson.payable.accounts.AccountsPayableApiApplication;
+import com.totvs.alisson.payable.accounts.application.dto.AccountRequest;
+import com.totvs.alisson.payable.accounts.domain.enums.AccountStatusEnum;
+import com.totvs.alisson.payable.accounts.domain.exception.AccountNotFoundException;
+import com.totvs.alisson.payable.accounts.domain.service.AccountService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Runs two replicas of the application against one PostgreSQL and writes through only one. */
+@Testcontainers(disabledWithoutDocker = true)
+public class AccountCacheInvalidationBusTest {
+
+  @Container static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static ConfigurableApplicationContext writer;
+  private static ConfigurableApplicationContext reader;
+
+  @BeforeAll
+  public static void startReplicas() {
+    writer = startReplica();
+    reader = startReplica();
+  }
+
+  @AfterAll
+  public static void stopReplicas() {
+    reader.close();
+    writer.close();
+  }
+
+  @Test
+  public void testWriteOnOneReplicaEvictsTheOther() {
+    AccountService writerService = writer.getBean(AccountService.class);
+    AccountService readerService = reader.getBean(AccountService.class);
+
+    Long id = writerService.create(request()).getId();
+    assertEquals("PENDENTE", readerService.getById(id).getStatus());
+
+    writerService.updateStatus(id, AccountStatusEnum.PAGO);
+    assertTrue(eventually(() -> "PAGO".equals(readerService.getById(id).getStatus())));
+
+    writerService.delete(id);
+    assertTrue(eventually(() -> isGone(readerService, id)));
+    assertThrows(AccountNotFoundException.class, () -> readerService.getById(id));
+  }
+
+  @Test
+  public void testReplicaIgnoresItsOwnNotifications() {
+    AccountService writerService = writer.getBean(AccountService.class);
+    AccountCacheInvalidationBus bus = writer.getBean(AccountCacheInvalidationBus.class);
+
+    Cache cache = writer.getBean(CacheManager.class).getCache(AccountService.ACCOUNT_CACHE);
+
+    Long id = writerService.create(request()).getId();
+    bus.publish(List.of(id));
+
+    assertFalse(eventually(() -> cache.get(id) == null));
+  }
+
+  private static ConfigurableApplicationContext startReplica() {
+    return new SpringApplicationBuilder(AccountsPayableApiApplication.class)
+        .run(
+            "--server.port=0",
+            "--management.server.port=0",
+            "--spring.datasource.url=" + postgres.getJdbcUrl(),
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword());
+  }
+
+  private static AccountRequest request() {
+    AccountRequest request = new AccountRequest();
+    request.setAmount(BigDecimal.valueOf(100.0));
+    request.setDueDate(LocalDate.now().plusDays(10));
+    request.setDescription("Replicated");
+    request.setStatus("PENDENTE");
+    return request;
+  }
+
+  private static boolean isGone(AccountService service, Long id) {
+    try {
+      service.getById(id);
+      return false;
+    } catch (AccountNotFoundException e) {
+      return true;
+    }
+  }
+
+  private static boolean eventually(BooleanSupplier condition) {
+    long deadline = System.currentTimeMillis() + 2_000;
+    while (System.currentTimeMillis() < deadline) {
+      if (condition.getAsBoolean()) {
+        return true;
+      }
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }
+    return false;
+  }
+}
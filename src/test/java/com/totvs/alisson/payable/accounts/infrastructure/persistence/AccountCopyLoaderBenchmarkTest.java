@@ -0,0 +1,109 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.AccountCsvRecord;
+import com.totvs.alisson.payable.accounts.application.service.CsvImportService;
+import com.totvs.alisson.payable.accounts.domain.entity.Account;
+import com.totvs.alisson.payable.accounts.domain.enums.ImportEngineEnum;
+import com.totvs.alisson.payable.accounts.domain.repository.AccountRepository;
+import com.totvs.alisson.payable.accounts.domain.service.AccountCsvImporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the CSV import engines on a local PostgreSQL. Run with {@code mvn test -Pbenchmark};
+ * the row count can be changed with {@code -Dbenchmark.rows}.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+public class AccountCopyLoaderBenchmarkTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 50_000);
+
+  @Autowired private AccountRepository repository;
+
+  @Autowired private AccountCsvImporter accountCsvImporter;
+
+  @Autowired private CsvImportService csvImportService;
+
+  @BeforeEach
+  public void setUp() {
+    repository.deleteAllInBatch();
+  }
+
+  @Test
+  public void benchmarkImportEngines() {
+    // Warm up the JIT, the connection pool and the sequence before measuring.
+    saveOneByOne(records(1_000));
+    accountCsvImporter.saveAll(records(1_000));
+    csvImportService.process(records(1_000), ImportEngineEnum.COPY);
+    repository.deleteAllInBatch();
+
+    long singleSaves = measure("repository.save per row", this::saveOneByOne);
+    long batched = measure("saveAll (JDBC batches)", accountCsvImporter::saveAll);
+    long copy =
+        measure(
+            "COPY FROM STDIN", records -> csvImportService.process(records, ImportEngineEnum.COPY));
+
+    assertEquals(3L * ROWS, repository.count());
+    assertTrue(copy < singleSaves, "COPY should be faster than one INSERT per row");
+    System.out.printf(
+        "COPY speed-up: %.1fx over single saves, %.1fx over JDBC batches%n",
+        (double) singleSaves / copy, (double) batched / copy);
+  }
+
+  /** The import loop as it was before batching: validate and save one row at a time. */
+  private void saveOneByOne(List<AccountCsvRecord> records) {
+    for (AccountCsvRecord record : records) {
+      Account account = accountCsvImporter.prepare(record);
+      if (account != null) {
+        repository.save(account);
+      }
+    }
+  }
+
+  private long measure(String name, Consumer<List<AccountCsvRecord>> importer) {
+    List<AccountCsvRecord> records = records(ROWS);
+    long start = System.nanoTime();
+    importer.accept(records);
+    long elapsed = System.nanoTime() - start;
+
+    System.out.printf(
+        "%-32s %,d rows in %,d ms (%,.0f rows/s)%n",
+        name, ROWS, elapsed / 1_000_000, ROWS / (elapsed / 1e9));
+    return elapsed;
+  }
+
+  private List<AccountCsvRecord> records(int count) {
+    List<AccountCsvRecord> records = new ArrayList<>(count);
+    LocalDate dueDate = LocalDate.now().plusDays(30);
+    for (int i = 0; i < count; i++) {
+      AccountCsvRecord record = new AccountCsvRecord();
+      record.setAmount(BigDecimal.valueOf(10_000 + i, 2));
+      record.setDueDate(dueDate.plusDays(i % 365));
+      record.setDescription("Fornecedor " + i + ", \"nota\" " + i);
+      record.setStatus(i % 2 == 0 ? "PENDENTE" : "PAGO");
+      records.add(record);
+    }
+    return records;
+  }
+}
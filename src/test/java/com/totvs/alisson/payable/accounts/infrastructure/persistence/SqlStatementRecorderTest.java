@@ -0,0 +1,201 @@
+package com.totvs.alisson.payable.accounts.infrastructure.persistence;
+
+import com.totvs.alisson.payable.accounts.application.dto.SqlStatementStatsResponse;
+import com.totvs.alisson.payable.accounts.config.SqlStatsProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SqlStatementRecorderTest {
+
+  private static final String SELECT = "select a1_0.id from contas a1_0 where a1_0.id=?";
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final SqlStatsProperties properties = new SqlStatsProperties();
+
+  private DataSource dataSource;
+
+  private SqlStatementRecorder recorder;
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    PreparedStatement statement = mock(PreparedStatement.class);
+    ResultSet resultSet = mock(ResultSet.class);
+    when(resultSet.next()).thenReturn(true, true, false, true, true, false, true, true, false);
+    when(statement.executeQuery()).thenReturn(resultSet);
+    when(statement.executeUpdate()).thenReturn(2);
+    Statement batch = mock(Statement.class);
+    when(batch.executeBatch()).thenReturn(new int[] {2, 1});
+    Connection connection = mock(Connection.class);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+    when(connection.createStatement()).thenReturn(batch);
+    DataSource target = mock(DataSource.class);
+    when(target.getConnection()).thenReturn(connection);
+
+    properties.setNPlusOneThreshold(3);
+    recorder = new SqlStatementRecorder(properties, registry);
+    dataSource =
+        ProxyDataSourceBuilder.create(target)
+            .listener(recorder)
+            .methodListener(recorder)
+            .proxyResultSet(recorder)
+            .build();
+  }
+
+  @Test
+  public void testRecordsLatencyAndRowsPerNormalizedStatement() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      query(connection, SELECT);
+      query(connection, "select a1_0.id from contas a1_0  where a1_0.id=?");
+      try (PreparedStatement update =
+          connection.prepareStatement("update contas set situacao='PAGO' where id in (?, ?)")) {
+        update.setLong(1, 1L);
+        update.setLong(2, 2L);
+        update.executeUpdate();
+      }
+    }
+
+    SqlStatementStatsResponse select = stats(SELECT);
+    assertEquals(2, select.getCount());
+    assertEquals(4, select.getRows());
+    assertEquals("select", select.getOperation());
+    SqlStatementStatsResponse update = stats("update contas set situacao=? where id in (?)");
+    assertEquals(1, update.getCount());
+    assertEquals(2, update.getRows());
+    assertEquals(2, registry.get("sql.statements").tag("operation", "select").timer().count());
+    assertEquals(4, registry.get("sql.rows").tag("operation", "select").counter().count());
+  }
+
+  @Test
+  public void testBatchOfSeveralStatementsAttributesEachUpdateCount() throws Exception {
+    try (Connection connection = dataSource.getConnection();
+        Statement batch = connection.createStatement()) {
+      batch.addBatch("update contas set situacao='PAGO' where id in (1, 2)");
+      batch.addBatch("delete from contas where id = 3");
+      batch.executeBatch();
+    }
+
+    SqlStatementStatsResponse update = stats("update contas set situacao=? where id in (?)");
+    assertEquals(1, update.getCount());
+    assertEquals(2, update.getRows());
+    SqlStatementStatsResponse delete = stats("delete from contas where id = ?");
+    assertEquals(1, delete.getCount());
+    assertEquals(1, delete.getRows());
+    assertEquals(1, registry.get("sql.statements").timer().count());
+    assertEquals(1, registry.get("sql.statements").tag("operation", "other").timer().count());
+  }
+
+  @Test
+  public void testRepeatedSelectOnOneConnectionIsFlaggedOnce() throws Exception {
+    try (Connection connection = dataSource.getConnection()) {
+      for (int i = 0; i < 2; i++) {
+        query(connection, SELECT);
+      }
+    }
+    try (Connection connection = dataSource.getConnection()) {
+      for (int i = 0; i < 4; i++) {
+        query(connection, SELECT);
+      }
+      for (int i = 0; i < 4; i++) {
+        query(connection, "select nextval('contas_id_seq')");
+      }
+    }
+
+    assertEquals(1, stats(SELECT).getLikelyNPlusOne());
+    assertEquals(1, registry.get("sql.statements.nplusone").counter().count());
+  }
+
+  @Test
+  public void testSlowStatementsAreCounted() throws Exception {
+    properties.setSlowThreshold(Duration.ZERO);
+
+    try (Connection connection = dataSource.getConnection()) {
+      query(connection, SELECT);
+    }
+
+    assertEquals(1, stats(SELECT).getSlow());
+    assertEquals(1, registry.get("sql.statements.slow").counter().count());
+  }
+
+  @Test
+  public void testStatementsBeyondTheLimitShareOneEntry() throws Exception {
+    properties.setMaxStatements(1);
+
+    try (Connection connection = dataSource.getConnection()) {
+      query(connection, SELECT);
+      query(connection, "select count(*) from contas");
+      query(connection, "select max(id) from contas");
+    }
+
+    assertEquals(2, recorder.statements().size());
+    assertEquals(2, stats(SqlStatementRecorder.OTHER).getCount());
+  }
+
+  @Test
+  public void testNormalizeReplacesLiteralsAndMarkerLists() {
+    assertEquals(
+        "select * from contas where id in (?) and descricao = ? and valor > ?",
+        SqlStatementRecorder.normalize(
+            "select *\n from contas where id in (?, ?,?) and descricao = 'a''b' and valor > 1.5"));
+    assertEquals(SELECT, SqlStatementRecorder.normalize(SELECT));
+  }
+
+  @Test
+  public void testRedactedBindsShowOnlyTypes() throws Exception {
+    QueryInfo query = new QueryInfo(SELECT);
+    query.setParametersList(
+        List.of(
+            List.of(
+                bind("setString", String.class, "secret description"),
+                bind("setObject", Object.class, LocalDate.of(2024, 1, 1)),
+                bind("setNull", int.class, Types.DATE))));
+
+    String binds = SqlStatementRecorder.redactedBinds(query);
+
+    assertEquals("[String, LocalDate, null]", binds);
+    assertFalse(binds.contains("secret"));
+  }
+
+  private void query(Connection connection, String sql) throws Exception {
+    try (PreparedStatement statement = connection.prepareStatement(sql);
+        ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        resultSet.getLong(1);
+      }
+    }
+  }
+
+  private ParameterSetOperation bind(String setter, Class<?> type, Object value)
+      throws Exception {
+    Method method = PreparedStatement.class.getMethod(setter, int.class, type);
+    return new ParameterSetOperation(method, new Object[] {1, value});
+  }
+
+  private SqlStatementStatsResponse stats(String statement) {
+    return recorder.statements().stream()
+        .filter(stats -> stats.getStatement().equals(statement))
+        .findFirst()
+        .orElseThrow();
+  }
+}
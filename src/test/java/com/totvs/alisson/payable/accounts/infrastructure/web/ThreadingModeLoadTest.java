@@ -0,0 +1,122 @@
+package com.totvs.alisson.payable.accounts.infrastructure.web;
+
+import com.totvs.alisson.payable.accounts.AccountsPayableApiApplication;
+import com.totvs.alisson.payable.accounts.loadtest.LoadDriver;
+import com.totvs.alisson.payable.accounts.loadtest.LoadReport;
+import com.totvs.alisson.payable.accounts.loadtest.LoadTestData;
+import com.totvs.alisson.payable.accounts.loadtest.Workload;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the API with many concurrent clients while Toxiproxy adds latency to every PostgreSQL
+ * round trip, once on platform request threads and once on virtual threads, and prints throughput
+ * and latency percentiles for both. Run with {@code mvn test -Pbenchmark
+ * -Dtest=ThreadingModeLoadTest} on a JDK 21; on older JDKs only platform threads are measured.
+ * {@code -Dbenchmark.clients}, {@code -Dbenchmark.seconds}, {@code -Dbenchmark.rows} and {@code
+ * -Dbenchmark.db-latency-ms} change the load.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+public class ThreadingModeLoadTest {
+
+  private static final int CLIENTS = Integer.getInteger("benchmark.clients", 300);
+  private static final int SECONDS = Integer.getInteger("benchmark.seconds", 20);
+  private static final int ROWS = Integer.getInteger("benchmark.rows", 100_000);
+  private static final int DB_LATENCY_MS = Integer.getInteger("benchmark.db-latency-ms", 5);
+
+  private static final Network network = Network.newNetwork();
+
+  @Container
+  static PostgreSQLContainer<?> postgres =
+      new PostgreSQLContainer<>("postgres:14").withNetwork(network).withNetworkAliases("postgres");
+
+  @Container
+  static ToxiproxyContainer toxiproxy =
+      new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0").withNetwork(network);
+
+  private static String jdbcUrl;
+
+  @BeforeAll
+  public static void slowDownPostgres() throws IOException {
+    ToxiproxyClient client = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort());
+    Proxy proxy = client.createProxy("postgres", "0.0.0.0:8666", "postgres:5432");
+    proxy.toxics().latency("latency", ToxicDirection.DOWNSTREAM, DB_LATENCY_MS);
+    jdbcUrl =
+        "jdbc:postgresql://"
+            + toxiproxy.getHost()
+            + ":"
+            + toxiproxy.getMappedPort(8666)
+            + "/"
+            + postgres.getDatabaseName();
+  }
+
+  @Test
+  public void benchmarkThreadingModes() throws Exception {
+    List<LoadReport> reports = new ArrayList<>();
+    reports.add(run(false));
+    if (Runtime.version().feature() >= 21) {
+      reports.add(run(true));
+    } else {
+      System.out.println("Virtual threads need Java 21, measuring platform threads only");
+    }
+
+    for (LoadReport report : reports) {
+      System.out.print(report.toTable());
+      assertTrue(report.total().ok() > 0, "No request succeeded on " + report.title());
+    }
+  }
+
+  private LoadReport run(boolean virtual) throws Exception {
+    try (ConfigurableApplicationContext app = start(virtual)) {
+      String baseUrl = "http://localhost:" + app.getEnvironment().getProperty("local.server.port");
+      JdbcTemplate jdbcTemplate = app.getBean(JdbcTemplate.class);
+      // Both runs share the database; start each one from the same number of accounts.
+      jdbcTemplate.execute("TRUNCATE contas");
+      LoadTestData.seedAccounts(jdbcTemplate, ROWS);
+      List<Long> ids = LoadTestData.sampleIds(jdbcTemplate, 10_000);
+
+      LoadDriver driver = new LoadDriver(CLIENTS);
+      String token = driver.login(baseUrl);
+
+      Workload workload =
+          LoadTestData.readWorkload(
+              baseUrl, token, ids, Map.of("list", 1, "get", 1, "total-paid", 1));
+      driver.run(workload, Duration.ofSeconds(3));
+      return driver
+          .run(workload, Duration.ofSeconds(SECONDS))
+          .report((virtual ? "Virtual" : "Platform") + " threads, " + CLIENTS + " clients");
+    }
+  }
+
+  private static ConfigurableApplicationContext start(boolean virtual) {
+    return new SpringApplicationBuilder(AccountsPayableApiApplication.class)
+        .run(
+            "--server.port=0",
+            "--management.server.port=0",
+            "--spring.threads.virtual.enabled=" + virtual,
+            "--spring.datasource.url=" + jdbcUrl,
+            "--spring.datasource.username=" + postgres.getUsername(),
+            "--spring.datasource.password=" + postgres.getPassword());
+  }
+}
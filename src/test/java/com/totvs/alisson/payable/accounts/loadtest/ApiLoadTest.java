@@ -0,0 +1,116 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs a mixed workload against the whole application on a throwaway PostgreSQL and reports
+ * throughput and p50/p99/p999 latency per operation, checked against latency objectives. Run
+ * with {@code mvn test -Ploadtest} (requires Docker, nothing else). The table is printed and
+ * written with the objectives and any violation to {@code target/loadtest/api-load-test.json}.
+ *
+ * <p>Tunable with system properties: {@code loadtest.rows} seeded accounts, {@code
+ * loadtest.clients}, {@code loadtest.seconds}, {@code loadtest.warmup-seconds}, {@code
+ * loadtest.import-rows} per upload, {@code loadtest.mix} as {@code name=weight} pairs, {@code
+ * loadtest.slo.<operation>} as a p99 in milliseconds, {@code loadtest.max-error-rate} and {@code
+ * loadtest.enforce-slo=false} to report without failing.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+public class ApiLoadTest {
+
+  @Container @ServiceConnection
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:14");
+
+  private static final int ROWS = Integer.getInteger("loadtest.rows", 100_000);
+  private static final int CLIENTS = Integer.getInteger("loadtest.clients", 32);
+  private static final int SECONDS = Integer.getInteger("loadtest.seconds", 30);
+  private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+  private static final int IMPORT_ROWS = Integer.getInteger("loadtest.import-rows", 100);
+  private static final String MIX =
+      System.getProperty("loadtest.mix", "list=50,get=20,total-paid=20,import=5,login=5");
+
+  /** Default p99 objectives in milliseconds, generous enough for a shared CI runner. */
+  private static final Map<String, Double> DEFAULT_P99_MS =
+      Map.of("list", 500.0, "get", 200.0, "total-paid", 300.0, "import", 3000.0, "login", 1500.0);
+
+  @LocalServerPort private int port;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  public void mixedWorkloadMeetsLatencyObjectives() throws Exception {
+    LoadTestData.seedAccounts(jdbcTemplate, ROWS);
+    List<Long> ids = LoadTestData.sampleIds(jdbcTemplate, 10_000);
+
+    LoadDriver driver = new LoadDriver(CLIENTS);
+    String baseUrl = "http://localhost:" + port;
+    String token = driver.login(baseUrl);
+
+    Workload workload = workload(baseUrl, token, ids);
+    driver.run(workload, Duration.ofSeconds(WARMUP_SECONDS));
+    LoadReport report =
+        driver.run(workload, Duration.ofSeconds(SECONDS)).report(CLIENTS + " clients, " + MIX);
+
+    Map<String, LoadReport.Slo> slos = slos(workload.names());
+    report.writeJson(Path.of("target", "loadtest", "api-load-test.json"), slos);
+    System.out.print(report.toTable());
+    List<String> violations = report.violations(slos);
+    violations.forEach(violation -> System.out.println("SLO missed: " + violation));
+
+    assertTrue(report.total().ok() > 0, "No request succeeded");
+    if (Boolean.parseBoolean(System.getProperty("loadtest.enforce-slo", "true"))) {
+      assertTrue(violations.isEmpty(), "Latency objectives missed: " + violations);
+    }
+  }
+
+  private static Workload workload(String baseUrl, String token, List<Long> ids) {
+    Map<String, Integer> weights = weights();
+    return LoadTestData.readWorkload(baseUrl, token, ids, weights)
+        .add(
+            "import",
+            weights.getOrDefault("import", 0),
+            () -> LoadTestData.csvUpload(baseUrl + "/api/accounts/import", token, IMPORT_ROWS))
+        .add(
+            "login",
+            weights.getOrDefault("login", 0),
+            () -> LoadTestData.json(baseUrl + "/api/auth/authenticate", LoadTestData.CREDENTIALS));
+  }
+
+  private static Map<String, Integer> weights() {
+    Map<String, Integer> weights = new LinkedHashMap<>();
+    for (String pair : MIX.split(",")) {
+      String[] parts = pair.trim().split("=");
+      weights.put(parts[0], Integer.parseInt(parts[1]));
+    }
+    return weights;
+  }
+
+  private static Map<String, LoadReport.Slo> slos(List<String> operations) {
+    double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+    Map<String, LoadReport.Slo> slos = new LinkedHashMap<>();
+    for (String operation : operations) {
+      String p99 = System.getProperty("loadtest.slo." + operation);
+      double p99Ms = p99 != null ? Double.parseDouble(p99) : DEFAULT_P99_MS.get(operation);
+      slos.put(operation, new LoadReport.Slo(p99Ms, maxErrorRate));
+    }
+    return slos;
+  }
+}
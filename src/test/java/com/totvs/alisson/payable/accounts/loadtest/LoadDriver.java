@@ -0,0 +1,88 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load from inside the JVM: each client sends its next request as soon as the
+ * previous one is answered, so latency is measured at the throughput the server sustains rather
+ * than at a fixed arrival rate.
+ */
+public class LoadDriver {
+
+  private static final Pattern TOKEN = Pattern.compile(".*\"jwt\"\\s*:\\s*\"([^\"]+)\".*");
+
+  private final HttpClient http =
+      HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+  private final int clients;
+
+  public LoadDriver(int clients) {
+    this.clients = clients;
+  }
+
+  public LoadResult run(Workload workload, Duration duration)
+      throws InterruptedException, ExecutionException {
+    LoadResult result = new LoadResult(workload.names(), duration);
+    long deadline = System.nanoTime() + duration.toNanos();
+
+    ExecutorService pool = Executors.newFixedThreadPool(clients);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < clients; i++) {
+        futures.add(
+            pool.submit(
+                () -> {
+                  while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                    send(workload.next(), result);
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    return result;
+  }
+
+  /** Sends one request outside of any measurement, e.g. to log in before the run. */
+  public HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+    return http.send(request, HttpResponse.BodyHandlers.ofString());
+  }
+
+  /** Registers the load test user, if it does not exist yet, and returns a token for it. */
+  public String login(String baseUrl) throws IOException, InterruptedException {
+    send(LoadTestData.json(baseUrl + "/api/auth/register", LoadTestData.CREDENTIALS));
+    return TOKEN
+        .matcher(
+            send(LoadTestData.json(baseUrl + "/api/auth/authenticate", LoadTestData.CREDENTIALS))
+                .body())
+        .replaceAll("$1");
+  }
+
+  private void send(Workload.Operation operation, LoadResult result) {
+    HttpRequest request = operation.request().get();
+    long start = System.nanoTime();
+    int status;
+    try {
+      status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    } catch (IOException e) {
+      status = LoadResult.NO_RESPONSE;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    result.record(operation.name(), status, System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,93 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** Throughput and latency percentiles of a run, printable as a table and written as JSON. */
+public record LoadReport(
+    String title, Duration duration, List<OperationReport> operations, OperationReport total) {
+
+  public record OperationReport(
+      String name,
+      long requests,
+      double throughput,
+      double p50Ms,
+      double p99Ms,
+      double p999Ms,
+      double maxMs,
+      long ok,
+      long rejected,
+      long errors) {
+
+    public double errorRate() {
+      return requests == 0 ? 0 : (double) errors / requests;
+    }
+  }
+
+  /** Latency objective of one operation: its p99 in milliseconds and the share of errors. */
+  public record Slo(double p99Ms, double maxErrorRate) {}
+
+  public String toTable() {
+    StringBuilder table = new StringBuilder();
+    table.append(String.format("%s (%ds)%n", title, duration.toSeconds()));
+    table.append(
+        String.format(
+            "%-12s %9s %9s %9s %9s %9s %9s %9s %7s%n",
+            "operation", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms", "rejected",
+            "errors"));
+    List<OperationReport> rows = new ArrayList<>(operations);
+    rows.add(total);
+    for (OperationReport row : rows) {
+      table.append(
+          String.format(
+              "%-12s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %9d %7d%n",
+              row.name(), row.requests(), row.throughput(), row.p50Ms(), row.p99Ms(),
+              row.p999Ms(), row.maxMs(), row.rejected(), row.errors()));
+    }
+    return table.toString();
+  }
+
+  /** Returns one message per operation that missed its objective; none when all were met. */
+  public List<String> violations(Map<String, Slo> slos) {
+    List<String> violations = new ArrayList<>();
+    for (OperationReport operation : operations) {
+      Slo slo = slos.get(operation.name());
+      if (slo == null || operation.requests() == 0) {
+        continue;
+      }
+      if (operation.p99Ms() > slo.p99Ms()) {
+        violations.add(
+            String.format(
+                "%s: p99 %.1f ms > %.1f ms", operation.name(), operation.p99Ms(), slo.p99Ms()));
+      }
+      if (operation.errorRate() > slo.maxErrorRate()) {
+        violations.add(
+            String.format(
+                "%s: error rate %.2f%% > %.2f%%",
+                operation.name(), operation.errorRate() * 100, slo.maxErrorRate() * 100));
+      }
+    }
+    return violations;
+  }
+
+  /** Writes the report together with the objectives it was checked against and the outcome. */
+  public void writeJson(Path file, Map<String, Slo> slos) throws IOException {
+    Map<String, Object> json = new LinkedHashMap<>();
+    json.put("title", title);
+    json.put("durationSeconds", duration.toSeconds());
+    json.put("operations", operations);
+    json.put("total", total);
+    json.put("slos", slos);
+    json.put("violations", violations(slos));
+
+    Files.createDirectories(file.getParent());
+    new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(file.toFile(), json);
+  }
+}
@@ -0,0 +1,98 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/** Latencies and outcomes of one run, per operation; safe to record from many clients. */
+public class LoadResult {
+
+  static final int NO_RESPONSE = -1;
+
+  private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final Map<String, OperationRecorder> recorders = new LinkedHashMap<>();
+  private final Duration duration;
+
+  LoadResult(List<String> operations, Duration duration) {
+    operations.forEach(name -> recorders.put(name, new OperationRecorder()));
+    this.duration = duration;
+  }
+
+  void record(String operation, int status, long nanos) {
+    recorders.get(operation).record(status, nanos);
+  }
+
+  /**
+   * Summarizes the run. 2xx responses count as successful, 429 and 503 as rejected by admission
+   * control, and anything else, including connection failures, as errors.
+   */
+  public LoadReport report(String title) {
+    List<LoadReport.OperationReport> operations = new ArrayList<>();
+    Histogram all = new Histogram(MAX_MICROS, 3);
+    long ok = 0;
+    long rejected = 0;
+    long errors = 0;
+    for (Map.Entry<String, OperationRecorder> entry : recorders.entrySet()) {
+      OperationRecorder recorder = entry.getValue();
+      Histogram histogram = recorder.latencies.getIntervalHistogram();
+      operations.add(
+          summarize(
+              entry.getKey(),
+              histogram,
+              recorder.ok.sum(),
+              recorder.rejected.sum(),
+              recorder.errors.sum()));
+      all.add(histogram);
+      ok += recorder.ok.sum();
+      rejected += recorder.rejected.sum();
+      errors += recorder.errors.sum();
+    }
+    return new LoadReport(
+        title, duration, operations, summarize("all", all, ok, rejected, errors));
+  }
+
+  private LoadReport.OperationReport summarize(
+      String name, Histogram histogram, long ok, long rejected, long errors) {
+    return new LoadReport.OperationReport(
+        name,
+        histogram.getTotalCount(),
+        histogram.getTotalCount() / (duration.toMillis() / 1000.0),
+        millis(histogram.getValueAtPercentile(50)),
+        millis(histogram.getValueAtPercentile(99)),
+        millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()),
+        ok,
+        rejected,
+        errors);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+
+  private static class OperationRecorder {
+
+    private final Recorder latencies = new Recorder(MAX_MICROS, 3);
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(int status, long nanos) {
+      latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), MAX_MICROS));
+      if (status >= 200 && status < 300) {
+        ok.increment();
+      } else if (status == 429 || status == 503) {
+        rejected.increment();
+      } else {
+        errors.increment();
+      }
+    }
+  }
+}
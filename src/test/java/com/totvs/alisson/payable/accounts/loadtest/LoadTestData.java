@@ -0,0 +1,121 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/** Seeds {@code contas} and builds the requests the load tests send. */
+public final class LoadTestData {
+
+  /** Due and payment dates of the seeded accounts fall within the year starting on this day. */
+  public static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+
+  public static final String CREDENTIALS =
+      "{\"username\":\"loadtest\",\"password\":\"loadtest123\"}";
+
+  private LoadTestData() {}
+
+  /** Tops {@code contas} up to {@code rows} accounts in one statement, half of them paid. */
+  public static void seedAccounts(JdbcTemplate jdbcTemplate, int rows) {
+    Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM contas", Long.class);
+    long missing = rows - (count == null ? 0 : count);
+    if (missing <= 0) {
+      return;
+    }
+    jdbcTemplate.update(
+        "INSERT INTO contas (id, valor, data_vencimento, data_pagamento, descricao, situacao)"
+            + " SELECT nextval('contas_id_seq'), 1 + (i % 1000), ? + (i % 365),"
+            + " CASE WHEN i % 2 = 0 THEN ? + (i % 365) END, 'Conta ' || i,"
+            + " CASE WHEN i % 2 = 0 THEN 'PAGO' ELSE 'PENDENTE' END"
+            + " FROM generate_series(1, ?) AS i",
+        FIRST_DAY,
+        FIRST_DAY,
+        missing);
+    jdbcTemplate.execute("VACUUM ANALYZE contas");
+  }
+
+  /** A random sample of existing ids, for requests that address a single account. */
+  public static List<Long> sampleIds(JdbcTemplate jdbcTemplate, int count) {
+    return jdbcTemplate.queryForList(
+        "SELECT id FROM contas TABLESAMPLE SYSTEM (10) LIMIT ?", Long.class, count);
+  }
+
+  /**
+   * The read operations both load tests share: {@code list}, {@code get} of one of {@code ids} and
+   * {@code total-paid} over a month, each with its weight in {@code weights} (0 if absent).
+   */
+  public static Workload readWorkload(
+      String baseUrl, String token, List<Long> ids, Map<String, Integer> weights) {
+    return new Workload()
+        .add(
+            "list",
+            weights.getOrDefault("list", 0),
+            () -> get(baseUrl + "/api/accounts?page=" + random().nextInt(100) + "&size=20", token))
+        .add(
+            "get",
+            weights.getOrDefault("get", 0),
+            () -> get(baseUrl + "/api/accounts/" + ids.get(random().nextInt(ids.size())), token))
+        .add(
+            "total-paid",
+            weights.getOrDefault("total-paid", 0),
+            () -> {
+              LocalDate start = FIRST_DAY.plusDays(random().nextInt(330));
+              return get(
+                  baseUrl
+                      + "/api/accounts/total-paid?startDate="
+                      + start
+                      + "&endDate="
+                      + start.plusDays(30),
+                  token);
+            });
+  }
+
+  public static HttpRequest get(String url, String token) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .header("Authorization", "Bearer " + token)
+        .build();
+  }
+
+  public static HttpRequest json(String url, String body) {
+    return HttpRequest.newBuilder(URI.create(url))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  /** A {@code multipart/form-data} upload of an accounts CSV with {@code rows} valid rows. */
+  public static HttpRequest csvUpload(String url, String token, int rows) {
+    StringBuilder csv = new StringBuilder("amount,dueDate,paymentDate,description,status\n");
+    LocalDate due = LocalDate.now().plusDays(30);
+    for (int i = 0; i < rows; i++) {
+      csv.append(10 + i).append(".50,").append(due).append(",,Load test ").append(i);
+      csv.append(",PENDENTE\n");
+    }
+
+    String boundary = UUID.randomUUID().toString();
+    String body =
+        "--"
+            + boundary
+            + "\r\nContent-Disposition: form-data; name=\"file\"; filename=\"accounts.csv\""
+            + "\r\nContent-Type: text/csv\r\n\r\n"
+            + csv
+            + "\r\n--"
+            + boundary
+            + "--\r\n";
+    return HttpRequest.newBuilder(URI.create(url))
+        .header("Authorization", "Bearer " + token)
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8))
+        .build();
+  }
+
+  private static ThreadLocalRandom random() {
+    return ThreadLocalRandom.current();
+  }
+}
@@ -0,0 +1,40 @@
+package com.totvs.alisson.payable.accounts.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/** Named requests and how often each is sent relative to the others. */
+public class Workload {
+
+  private final List<Operation> operations = new ArrayList<>();
+  private int totalWeight;
+
+  /** Adds an operation unless its weight is 0; the supplier builds a new request on every call. */
+  public Workload add(String name, int weight, Supplier<HttpRequest> request) {
+    if (weight > 0) {
+      operations.add(new Operation(name, weight, request));
+      totalWeight += weight;
+    }
+    return this;
+  }
+
+  public List<String> names() {
+    return operations.stream().map(Operation::name).toList();
+  }
+
+  Operation next() {
+    int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+    for (Operation operation : operations) {
+      pick -= operation.weight();
+      if (pick < 0) {
+        return operation;
+      }
+    }
+    throw new IllegalStateException("Weights changed while picking an operation");
+  }
+
+  record Operation(String name, int weight, Supplier<HttpRequest> request) {}
+}
@@ -0,0 +1,79 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.PasswordHashingProperties;
+import com.totvs.alisson.payable.accounts.domain.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BoundedPasswordEncoderTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  public void testHashesAndVerifiesOnThePool() {
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setStrength(4);
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(properties, registry);
+
+    String hash = encoder.encode("secret");
+
+    assertTrue(hash.startsWith("$2a$04$"));
+    assertTrue(encoder.matches("secret", hash));
+    assertFalse(encoder.matches("wrong", hash));
+    assertEquals(1, registry.get("password.hashing").tag("operation", "encode").timer().count());
+    assertEquals(2, registry.get("password.hashing").tag("operation", "matches").timer().count());
+    encoder.shutdown();
+  }
+
+  @Test
+  public void testRejectsWhenPoolAndQueueAreFull() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordEncoder blocking = new BlockingEncoder(release);
+    PasswordHashingProperties properties = new PasswordHashingProperties();
+    properties.setPoolSize(1);
+    properties.setQueueCapacity(1);
+    BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, properties, registry);
+
+    CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+    CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+    while (registry.get("executor.queued").gauge().value() < 1) {
+      Thread.sleep(10);
+    }
+
+    assertThrows(PasswordHashingRejectedException.class, () -> encoder.encode("c"));
+    assertEquals(1, registry.get("password.hashing.rejected").counter().count());
+
+    release.countDown();
+    assertEquals("a", running.get(5, TimeUnit.SECONDS));
+    assertEquals("b", queued.get(5, TimeUnit.SECONDS));
+    encoder.shutdown();
+  }
+
+  private record BlockingEncoder(CountDownLatch release) implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return rawPassword.toString();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return encode(rawPassword).equals(encodedPassword);
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.UserCheckEnum;
+import com.totvs.alisson.payable.accounts.domain.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class JwtFilterTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final JwtProperties jwtProperties = JwtUtilTest.properties();
+
+  private final JwtUtil jwtUtil = new JwtUtil(jwtProperties);
+
+  @AfterEach
+  public void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  public void testVerificationIsTimedByResult() throws Exception {
+    jwtProperties.setUserCheck(UserCheckEnum.NONE);
+    JwtFilter filter =
+        new JwtFilter(
+            new VerifiedTokenCache(jwtUtil, jwtProperties),
+            new UserTokenStatusCache(null, jwtProperties),
+            registry);
+    String token = jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList()));
+
+    filter(filter, "Bearer " + token);
+    assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+
+    SecurityContextHolder.clearContext();
+    filter(filter, "Bearer not-a-jwt");
+    filter(filter, null);
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+    assertEquals(1, registry.get(JwtFilter.METRIC).tag("result", "valid").timer().count());
+    assertEquals(1, registry.get(JwtFilter.METRIC).tag("result", "invalid").timer().count());
+    assertEquals(0, registry.get(JwtFilter.METRIC).tag("result", "rejected").timer().count());
+  }
+
+  @Test
+  public void testTokensOfUnknownUsersAreTimedAsRejected() throws Exception {
+    jwtProperties.setUserCheck(UserCheckEnum.ALWAYS);
+    UserRepository userRepository = mock(UserRepository.class);
+    JwtFilter filter =
+        new JwtFilter(
+            new VerifiedTokenCache(jwtUtil, jwtProperties),
+            new UserTokenStatusCache(userRepository, jwtProperties),
+            registry);
+    String token = jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList()));
+
+    filter(filter, "Bearer " + token);
+
+    assertNull(SecurityContextHolder.getContext().getAuthentication());
+    verify(userRepository).findTokenStatusByUsername("alice");
+    assertEquals(1, registry.get(JwtFilter.METRIC).tag("result", "rejected").timer().count());
+    assertEquals(0, registry.get(JwtFilter.METRIC).tag("result", "valid").timer().count());
+  }
+
+  private void filter(JwtFilter filter, String authorization) throws Exception {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/accounts");
+    if (authorization != null) {
+      request.addHeader("Authorization", authorization);
+    }
+    filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+  }
+}
@@ -0,0 +1,71 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtUtilTest {
+
+  static final String SECRET = "9dpskVbCKFt5Xtr13WRzwfSnPXMGxaZAix5umXxHOsE=";
+
+  static JwtProperties properties() {
+    JwtProperties jwtProperties = new JwtProperties();
+    jwtProperties.setSecret(SECRET);
+    return jwtProperties;
+  }
+
+  private final User alice = new User("alice", "secret", Collections.emptyList());
+
+  @Test
+  public void testGeneratedTokenVerifiesWithConfiguredExpiration() {
+    JwtProperties jwtProperties = properties();
+    jwtProperties.setExpiration(Duration.ofMinutes(5));
+    JwtUtil jwtUtil = new JwtUtil(jwtProperties);
+
+    VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken(alice));
+
+    assertEquals("alice", verified.getUsername());
+    Duration lifetime = Duration.between(verified.getIssuedAt(), verified.getExpiresAt());
+    assertEquals(Duration.ofMinutes(5), lifetime);
+    assertTrue(jwtUtil.validateToken(jwtUtil.generateToken(alice), alice));
+  }
+
+  @Test
+  public void testTokensSignedWithTheLegacyStringKeyStillVerify() {
+    String legacy =
+        Jwts.builder()
+            .setSubject("alice")
+            .setIssuedAt(new Date())
+            .setExpiration(Date.from(Instant.now().plusSeconds(60)))
+            .signWith(SignatureAlgorithm.HS256, SECRET)
+            .compact();
+
+    assertEquals("alice", new JwtUtil(properties()).verify(legacy).getUsername());
+  }
+
+  @Test
+  public void testTokenFromAnotherKeyIsRejected() {
+    JwtProperties other = properties();
+    other.setSecret("c2VjcmV0LWtleS10aGF0LWlzLWxvbmctZW5vdWdoLWZvci1oczI1Ng==");
+    String foreign = new JwtUtil(other).generateToken(alice);
+
+    assertThrows(JwtException.class, () -> new JwtUtil(properties()).verify(foreign));
+  }
+
+  @Test
+  public void testMissingSecretFailsAtStartup() {
+    assertThrows(IllegalStateException.class, () -> new JwtUtil(new JwtProperties()));
+  }
+}
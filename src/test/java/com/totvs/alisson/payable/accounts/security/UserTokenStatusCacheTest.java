@@ -0,0 +1,128 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import com.totvs.alisson.payable.accounts.domain.enums.UserCheckEnum;
+import com.totvs.alisson.payable.accounts.domain.repository.UserRepository;
+import com.totvs.alisson.payable.accounts.domain.repository.UserTokenStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class UserTokenStatusCacheTest {
+
+  private static final Instant NOW = Instant.now();
+
+  @Mock private UserRepository userRepository;
+
+  private final JwtProperties jwtProperties = new JwtProperties();
+
+  @Test
+  public void testNoneTrustsTheTokenWithoutLookup() {
+    jwtProperties.setUserCheck(UserCheckEnum.NONE);
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+
+    assertTrue(cache.accepts(token(NOW)));
+    verifyNoInteractions(userRepository);
+  }
+
+  @Test
+  public void testCachedLooksUpEachUserOnce() {
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(status(true, null));
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+
+    assertTrue(cache.accepts(token(NOW)));
+    assertTrue(cache.accepts(token(NOW)));
+    verify(userRepository, times(1)).findTokenStatusByUsername("alice");
+  }
+
+  @Test
+  public void testDisabledAndUnknownUsersAreRejected() {
+    jwtProperties.setUserCheck(UserCheckEnum.ALWAYS);
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(status(false, null));
+    assertFalse(cache.accepts(token(NOW)));
+
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(null);
+    assertFalse(cache.accepts(token(NOW)));
+  }
+
+  @Test
+  public void testRevokeRejectsOlderTokensAtOnce() {
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(status(true, null));
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+    assertTrue(cache.accepts(token(NOW.minusSeconds(60))));
+
+    cache.revoke("alice");
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(status(true, NOW));
+
+    assertFalse(cache.accepts(token(NOW.minusSeconds(60))));
+    assertTrue(cache.accepts(token(NOW.plusSeconds(1))));
+    verify(userRepository).revokeTokens(eq("alice"), any(Instant.class));
+    verify(userRepository, times(2)).findTokenStatusByUsername(anyString());
+  }
+
+  @Test
+  public void testLoginWithinTheSecondOfARevocationIsAccepted() {
+    jwtProperties.setUserCheck(UserCheckEnum.ALWAYS);
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+    JwtUtil jwtUtil = new JwtUtil(JwtUtilTest.properties());
+
+    cache.revoke("alice");
+    ArgumentCaptor<Instant> revokedAt = ArgumentCaptor.forClass(Instant.class);
+    verify(userRepository).revokeTokens(eq("alice"), revokedAt.capture());
+    when(userRepository.findTokenStatusByUsername("alice"))
+        .thenReturn(status(true, revokedAt.getValue()));
+    VerifiedToken login =
+        jwtUtil.verify(
+            jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList())));
+
+    assertEquals(0, revokedAt.getValue().getNano());
+    assertTrue(cache.accepts(login));
+    assertFalse(cache.accepts(token(revokedAt.getValue().minusSeconds(1))));
+  }
+
+  @Test
+  public void testRevocationsWithSubSecondPrecisionAreComparedBySecond() {
+    jwtProperties.setUserCheck(UserCheckEnum.ALWAYS);
+    Instant revokedAt = Instant.parse("2024-03-10T12:00:00.700Z");
+    when(userRepository.findTokenStatusByUsername("alice")).thenReturn(status(true, revokedAt));
+    UserTokenStatusCache cache = new UserTokenStatusCache(userRepository, jwtProperties);
+
+    assertTrue(cache.accepts(token(Instant.parse("2024-03-10T12:00:00Z"))));
+    assertFalse(cache.accepts(token(Instant.parse("2024-03-10T11:59:59Z"))));
+  }
+
+  private VerifiedToken token(Instant issuedAt) {
+    return new VerifiedToken("alice", issuedAt, issuedAt.plusSeconds(3600));
+  }
+
+  private UserTokenStatus status(boolean enabled, Instant tokensRevokedAt) {
+    return new UserTokenStatus() {
+      @Override
+      public boolean isEnabled() {
+        return enabled;
+      }
+
+      @Override
+      public Instant getTokensRevokedAt() {
+        return tokensRevokedAt;
+      }
+    };
+  }
+}
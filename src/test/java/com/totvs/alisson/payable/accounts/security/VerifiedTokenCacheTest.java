@@ -0,0 +1,67 @@
+package com.totvs.alisson.payable.accounts.security;
+
+import com.totvs.alisson.payable.accounts.config.JwtProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
+
+import java.time.Instant;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+  private final JwtProperties jwtProperties = JwtUtilTest.properties();
+
+  @Spy private JwtUtil jwtUtil = new JwtUtil(jwtProperties);
+
+  @Test
+  public void testTokenIsVerifiedOnce() {
+    String token = jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList()));
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, jwtProperties);
+
+    assertEquals("alice", cache.verify(token).getUsername());
+    assertEquals("alice", cache.verify(token).getUsername());
+    verify(jwtUtil, times(1)).verify(token);
+  }
+
+  @Test
+  public void testInvalidTokensAreRejectedAndNotCached() {
+    String token = jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList()));
+    String tampered = token.substring(0, token.length() - 2) + "xx";
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, jwtProperties);
+
+    assertNull(cache.verify(tampered));
+    assertNull(cache.verify(tampered));
+    assertNull(cache.verify("not-a-jwt"));
+    verify(jwtUtil, times(2)).verify(tampered);
+  }
+
+  @Test
+  public void testExpiredTokenIsRejected() {
+    Instant now = Instant.now();
+    doReturn(new VerifiedToken("alice", now.minusSeconds(60), now.minusSeconds(1)))
+        .when(jwtUtil)
+        .verify("expired");
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, jwtProperties);
+
+    assertNull(cache.verify("expired"));
+  }
+
+  @Test
+  public void testZeroSizeVerifiesEveryTime() {
+    String token = jwtUtil.generateToken(new User("alice", "secret", Collections.emptyList()));
+    jwtProperties.setVerifiedCacheSize(0);
+    VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, jwtProperties);
+
+    cache.verify(token);
+    cache.verify(token);
+    verify(jwtUtil, times(2)).verify(token);
+  }
+}